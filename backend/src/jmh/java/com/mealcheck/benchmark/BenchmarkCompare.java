@@ -0,0 +1,76 @@
+package com.mealcheck.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 두 JMH JSON 결과(기준 커밋, 현재 커밋)를 벤치마크 + 파라미터 단위로 비교합니다.
+ *
+ * 사용: BenchmarkCompare <baseline.json> <current.json> [threshold%]
+ * 오차 범위를 넘어 threshold% 이상 느려진 항목이 있으면 종료 코드 1 로 끝납니다.
+ */
+public class BenchmarkCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkCompare <baseline.json> <current.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", afterScore, "new", unit);
+                continue;
+            }
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            double error = scoreError(after) + scoreError(before);
+
+            // 시간 측정(avgt, sample, ss)은 클수록, 처리량(thrpt)은 작을수록 나쁨
+            boolean higherIsWorse = !"thrpt".equals(after.path("mode").asText());
+            double worse = higherIsWorse ? afterScore - beforeScore : beforeScore - afterScore;
+            double change = beforeScore == 0 ? 0 : (afterScore - beforeScore) / beforeScore * 100;
+            boolean regressed = worse > error && worse / beforeScore * 100 >= threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                entry.getKey(), beforeScore, afterScore, change, unit, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    // 측정 반복이 1회면 JMH 가 오차를 "NaN" 으로 기록하므로 0 으로 취급
+    private static double scoreError(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            result.path("params").fields()
+                .forEachRemaining(param -> key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
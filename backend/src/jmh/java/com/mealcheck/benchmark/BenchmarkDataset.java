@@ -0,0 +1,129 @@
+package com.mealcheck.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mealcheck.MealCheckApplication;
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.service.MealScheduleService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 H2 데이터셋 + 애플리케이션 컨텍스트.
+ *
+ * 크기는 -p users=5000 -p schedules=300 -p checkRate=0.9 처럼 JMH 파라미터로 조절합니다.
+ * 수령 여부는 고정 시드로 만들어 같은 파라미터면 커밋이 달라도 같은 데이터로 측정됩니다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDataset {
+
+    static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final long SEED = 20240101L;
+    private static final String[] DEPARTMENTS = {"Dev", "Sales", "HR", "Ops", "Finance"};
+    private static final int HISTORY_SAMPLE_DAYS = 7;
+
+    @Param("1000")
+    public int users;
+
+    @Param("90")
+    public int schedules;
+
+    @Param("0.8")
+    public double checkRate;
+
+    public ConfigurableApplicationContext context;
+    public MealScheduleService scheduleService;
+    // 시드 사용자 ID (ID 순)
+    public List<Long> userIds;
+    public ObjectMapper objectMapper;
+    public LocalDate endDate;
+    // 조회 대상 스케줄 (데이터셋 중간 지점)
+    public Long sampleScheduleId;
+    // 직렬화 벤치마크 입력 (첫 HISTORY_SAMPLE_DAYS 일치 식사 기록)
+    public List<MealHistoryDTO> historySample;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MealCheckApplication.class)
+            .run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN",
+                "--logging.level.com.mealcheck=WARN");
+        scheduleService = context.getBean(MealScheduleService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        List<Long> scheduleIds = seed(context.getBean(JdbcTemplate.class));
+        sampleScheduleId = scheduleIds.get(scheduleIds.size() / 2);
+        endDate = START_DATE.plusDays((schedules - 1) / MealType.values().length);
+        historySample = scheduleService.getAllMealHistory(START_DATE, START_DATE.plusDays(HISTORY_SAMPLE_DAYS - 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private List<Long> seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userRows.add(new Object[]{"bench" + i, "사용자" + i, "{noop}bench", DEPARTMENTS[i % DEPARTMENTS.length], now, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (username, name, password, department, role, approved, active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'USER', TRUE, TRUE, ?, ?)", userRows);
+        userIds = jdbcTemplate.queryForList(
+            "SELECT id FROM users WHERE username LIKE 'bench%' ORDER BY id", Long.class);
+
+        MealType[] mealTypes = MealType.values();
+        List<Object[]> scheduleRows = new ArrayList<>(schedules);
+        for (int i = 0; i < schedules; i++) {
+            LocalDate mealDate = START_DATE.plusDays(i / mealTypes.length);
+            scheduleRows.add(new Object[]{Date.valueOf(mealDate), mealTypes[i % mealTypes.length].name(), userIds.get(0), now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO meal_schedules (meal_date, meal_type, active, created_by, created_at) VALUES (?, ?, TRUE, ?, ?)",
+            scheduleRows);
+        List<Long> scheduleIds = jdbcTemplate.queryForList("SELECT id FROM meal_schedules ORDER BY id", Long.class);
+
+        Random random = new Random(SEED);
+        List<Object[]> participantRows = new ArrayList<>();
+        for (Long scheduleId : scheduleIds) {
+            for (Long userId : userIds) {
+                if (random.nextDouble() < checkRate) {
+                    participantRows.add(new Object[]{scheduleId, userId, now, now});
+                }
+            }
+            if (participantRows.size() >= 10_000) {
+                insertParticipants(jdbcTemplate, participantRows);
+            }
+        }
+        insertParticipants(jdbcTemplate, participantRows);
+        return scheduleIds;
+    }
+
+    private static void insertParticipants(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO meal_schedule_participants (schedule_id, user_id, checked, created_at, updated_at) " +
+            "VALUES (?, ?, TRUE, ?, ?)", rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package com.mealcheck.benchmark;
+
+import com.mealcheck.config.JwtTokenProvider;
+import com.mealcheck.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증. 검증 캐시를 거치는 경로와 매번 서명(HMAC)을 검증하는 경로를 나눠 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = provider(60_000);
+        // TTL 0: 캐시 항목이 바로 만료되어 매번 서명 검증
+        uncachedProvider = provider(0);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("bench");
+        user.setRole("USER");
+        user.setApproved(true);
+        token = cachedProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    private static JwtTokenProvider provider(long cacheTtlInMs) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", "benchmark_jwt_secret_not_for_production");
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "jwtRememberExpirationInMs", 2_592_000_000L);
+        ReflectionTestUtils.setField(provider, "cacheTtlInMs", cacheTtlInMs);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", 10_000);
+        provider.init();
+        return provider;
+    }
+}
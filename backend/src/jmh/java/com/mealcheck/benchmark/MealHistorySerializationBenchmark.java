@@ -0,0 +1,29 @@
+package com.mealcheck.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식사 기록 목록(List<MealHistoryDTO>)의 JSON 직렬화.
+ * 애플리케이션과 같은 ObjectMapper 설정(JacksonTimeConfig 등)을 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MealHistorySerializationBenchmark {
+
+    @Benchmark
+    public byte[] serializeHistoryList(BenchmarkDataset dataset) throws JsonProcessingException {
+        return dataset.objectMapper.writeValueAsBytes(dataset.historySample);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mealcheck.benchmark;
+
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.dto.MealScheduleDTO;
+import com.mealcheck.dto.MealScheduleParticipantDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MealScheduleService 조회 핫패스.
+ * 명단 캐시/수령자 인덱스가 채워진 뒤의 정상 상태(steady state)를 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MealScheduleServiceBenchmark {
+
+    // convertToDTO 경로 (스케줄 1건 조회 + 수령 인원/활성 사용자 수 계산)
+    @Benchmark
+    public MealScheduleDTO getScheduleById(BenchmarkDataset dataset) {
+        return dataset.scheduleService.getScheduleById(dataset.sampleScheduleId);
+    }
+
+    @Benchmark
+    public List<MealScheduleParticipantDTO> getUncheckedParticipants(BenchmarkDataset dataset) {
+        return dataset.scheduleService.getUncheckedParticipants(dataset.sampleScheduleId);
+    }
+
+    // 전체 기간 (스케줄 수 × 활성 사용자 수 만큼의 기록)
+    @Benchmark
+    public List<MealHistoryDTO> getAllMealHistory(BenchmarkDataset dataset) {
+        return dataset.scheduleService.getAllMealHistory(BenchmarkDataset.START_DATE, dataset.endDate);
+    }
+}
@@ -0,0 +1,137 @@
+package com.mealcheck.benchmark;
+
+import com.mealcheck.config.QueryCounter;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식사 참여 정보 50,000 행 INSERT.
+ *
+ * 행마다 INSERT IGNORE 한 문장(insertCheckedIfAbsent)과 JDBC batch(upsertChecked)를 비교하며,
+ * 보조 지표 statements 로 호출 한 번에 실행된 SQL 문 수(executeBatch 는 1)를 함께 기록합니다.
+ * 매 호출마다 새 스케줄에 넣고 끝나면 지우므로 데이터셋 크기는 그대로 유지됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ParticipantBulkInsertBenchmark {
+
+    static final int ROWS = 50_000;
+    private static final LocalDate TARGET_DATE = LocalDate.of(2090, 1, 1);
+
+    @Benchmark
+    public int rowByRow(BenchmarkDataset dataset, Target target, Statements statements) {
+        MealScheduleParticipantRepository repository = dataset.context.getBean(MealScheduleParticipantRepository.class);
+        TransactionTemplate transaction = dataset.context.getBean(TransactionTemplate.class);
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            Integer inserted = transaction.execute(status -> {
+                int count = 0;
+                for (Long scheduleId : target.scheduleIds) {
+                    for (CheckEntry entry : target.entries) {
+                        count += repository.insertCheckedIfAbsent(scheduleId, entry.getUserId(), null, null, entry.getCheckedAt());
+                    }
+                }
+                return count;
+            });
+            statements.statements = scope.getCount();
+            return inserted;
+        }
+    }
+
+    @Benchmark
+    public int jdbcBatch(BenchmarkDataset dataset, Target target, Statements statements) {
+        MealScheduleParticipantBatchRepository repository = dataset.context.getBean(MealScheduleParticipantBatchRepository.class);
+        TransactionTemplate transaction = dataset.context.getBean(TransactionTemplate.class);
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            Integer inserted = transaction.execute(status -> {
+                int count = 0;
+                for (Long scheduleId : target.scheduleIds) {
+                    count += repository.upsertChecked(scheduleId, target.entries).size();
+                }
+                return count;
+            });
+            statements.statements = scope.getCount();
+            return inserted;
+        }
+    }
+
+    /**
+     * 호출마다 비어 있는 대상 스케줄 (사용자 수 × 스케줄 수 = ROWS)
+     */
+    @State(Scope.Thread)
+    public static class Target {
+
+        List<Long> scheduleIds;
+        List<CheckEntry> entries;
+
+        @Setup(Level.Invocation)
+        public void createSchedules(BenchmarkDataset dataset) {
+            JdbcTemplate jdbcTemplate = dataset.context.getBean(JdbcTemplate.class);
+            int scheduleCount = (ROWS + dataset.userIds.size() - 1) / dataset.userIds.size();
+            MealType[] mealTypes = MealType.values();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            List<Object[]> rows = new ArrayList<>(scheduleCount);
+            for (int i = 0; i < scheduleCount; i++) {
+                LocalDate mealDate = TARGET_DATE.plusDays(i / mealTypes.length);
+                rows.add(new Object[]{Date.valueOf(mealDate), mealTypes[i % mealTypes.length].name(), dataset.userIds.get(0), now});
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO meal_schedules (meal_date, meal_type, active, created_by, created_at) VALUES (?, ?, TRUE, ?, ?)",
+                rows);
+            scheduleIds = jdbcTemplate.queryForList(
+                "SELECT id FROM meal_schedules WHERE meal_date >= ? ORDER BY id", Long.class, Date.valueOf(TARGET_DATE));
+
+            LocalDateTime checkedAt = LocalDateTime.now();
+            entries = dataset.userIds.stream()
+                .limit(ROWS / scheduleCount)
+                .map(userId -> new CheckEntry(userId, null, null, checkedAt))
+                .toList();
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteSchedules(BenchmarkDataset dataset) {
+            JdbcTemplate jdbcTemplate = dataset.context.getBean(JdbcTemplate.class);
+            Date from = Date.valueOf(TARGET_DATE);
+            jdbcTemplate.update(
+                "DELETE FROM meal_schedule_participants WHERE schedule_id IN (SELECT id FROM meal_schedules WHERE meal_date >= ?)", from);
+            jdbcTemplate.update("DELETE FROM meal_schedules WHERE meal_date >= ?", from);
+        }
+    }
+
+    /**
+     * 마지막 호출에서 실행된 SQL 문 수 (JMH 보조 지표, 요약 표에는 측정 반복 수만큼 더한 값이 표시됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public long statements;
+    }
+}
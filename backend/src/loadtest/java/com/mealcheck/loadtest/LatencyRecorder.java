@@ -0,0 +1,89 @@
+package com.mealcheck.loadtest;
+
+import com.mealcheck.loadtest.LoadTestConfig.Endpoint;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간(나노초) 기록.
+ *
+ * 워커 스레드마다 하나씩 두고 측정이 끝난 뒤 merge 로 합치므로 동기화가 필요 없습니다.
+ * 백분위는 전체 표본을 정렬해 nearest-rank 로 계산합니다.
+ */
+public class LatencyRecorder {
+
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    public void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+        Samples target = samples.computeIfAbsent(endpoint, key -> new Samples());
+        target.add(elapsedNanos);
+        if (!success) {
+            target.errors++;
+        }
+    }
+
+    public void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, source) -> {
+            Samples target = samples.computeIfAbsent(endpoint, key -> new Samples());
+            for (int i = 0; i < source.size; i++) {
+                target.add(source.values[i]);
+            }
+            target.errors += source.errors;
+        });
+    }
+
+    public long totalRequests() {
+        return samples.values().stream().mapToLong(s -> s.size).sum();
+    }
+
+    /**
+     * 엔드포인트별 요약 (밀리초 단위, 처리량은 초당 요청 수)
+     */
+    public Map<String, Object> summarize(double elapsedSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        samples.forEach((endpoint, source) -> {
+            long[] sorted = Arrays.copyOf(source.values, source.size);
+            Arrays.sort(sorted);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("route", endpoint.getRoute());
+            stats.put("requests", source.size);
+            stats.put("errors", source.errors);
+            stats.put("throughputPerSec", round(source.size / elapsedSeconds));
+            stats.put("meanMs", round(Arrays.stream(sorted).average().orElse(0) / 1_000_000.0));
+            stats.put("p50Ms", percentileMillis(sorted, 50));
+            stats.put("p95Ms", percentileMillis(sorted, 95));
+            stats.put("p99Ms", percentileMillis(sorted, 99));
+            stats.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1_000_000.0));
+            result.put(endpoint.getKey(), stats);
+        });
+        return result;
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return round(sorted[Math.max(rank, 1) - 1] / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.mealcheck.loadtest;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정.
+ *
+ * 인자는 key=value 형식이며, pom 의 loadtest.* 속성으로 넘어옵니다.
+ * mix 는 "date=40,check=20,unchecked=30,history=10" 처럼 엔드포인트별 가중치로 지정합니다.
+ */
+@Getter
+public class LoadTestConfig {
+
+    private int users = 200;
+    private int concurrency = 50;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 60;
+    private int thinkTimeMs = 0;
+    private int historyDays = 30;
+    private double checkRate = 0.8;
+    private long seed = 20240101L;
+    private String configLocation = "target/classes/";
+    private String reportFile = "target/loadtest-report.json";
+    private final Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        config.setMix("date=40,check=20,unchecked=30,history=10");
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            }
+            String key = arg.substring(0, separator).trim();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case "users" -> config.users = Integer.parseInt(value);
+                case "concurrency" -> config.concurrency = Integer.parseInt(value);
+                case "warmup" -> config.warmupSeconds = Integer.parseInt(value);
+                case "duration" -> config.durationSeconds = Integer.parseInt(value);
+                case "thinkTimeMs" -> config.thinkTimeMs = Integer.parseInt(value);
+                case "historyDays" -> config.historyDays = Integer.parseInt(value);
+                case "checkRate" -> config.checkRate = Double.parseDouble(value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                case "config" -> config.configLocation = value;
+                case "report" -> config.reportFile = value;
+                case "mix" -> config.setMix(value);
+                default -> throw new IllegalArgumentException("알 수 없는 설정입니다: " + key);
+            }
+        }
+        if (config.users < 1 || config.concurrency < 1 || config.durationSeconds < 1) {
+            throw new IllegalArgumentException("users, concurrency, duration 은 1 이상이어야 합니다");
+        }
+        return config;
+    }
+
+    private void setMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 잘못되었습니다: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 가중치가 1 이상인 엔드포인트가 하나 이상 있어야 합니다");
+        }
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("users", users);
+        map.put("concurrency", concurrency);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("thinkTimeMs", thinkTimeMs);
+        map.put("historyDays", historyDays);
+        map.put("checkRate", checkRate);
+        map.put("seed", seed);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((endpoint, weight) -> weights.put(endpoint.getKey(), weight));
+        map.put("mix", weights);
+        return map;
+    }
+
+    /**
+     * 부하 대상 엔드포인트 (login 은 준비 단계에서만 측정)
+     */
+    @Getter
+    public enum Endpoint {
+        LOGIN("login", "POST /api/auth/login"),
+        DATE("date", "GET /api/meal-schedules/date/{date}"),
+        CHECK("check", "POST /api/meal-schedules/{id}/check"),
+        UNCHECKED("unchecked", "GET /api/meal-schedules/{id}/participants/unchecked"),
+        HISTORY("history", "GET /api/meal-schedules/history/my");
+
+        private final String key;
+        private final String route;
+
+        Endpoint(String key, String route) {
+            this.key = key;
+            this.route = route;
+        }
+
+        static Endpoint fromKey(String key) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint != LOGIN && endpoint.key.equals(key)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + key);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mealcheck.loadtest;
+
+import com.mealcheck.entity.MealSchedule.MealType;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 점심 시간대 재현용 데이터.
+ *
+ * 사용자 N 명(모두 승인/활성, 같은 비밀번호)과 지난 historyDays 일치 식사 기록,
+ * 아직 아무도 수령하지 않은 오늘 스케줄을 JDBC batch 로 넣습니다.
+ * 비밀번호 해시는 한 번만 만들어 모든 사용자가 공유합니다 (로그인 시 BCrypt 검증 비용은 그대로).
+ */
+@Getter
+public class LoadTestDataset {
+
+    static final String USERNAME_PREFIX = "load";
+    static final String PASSWORD = "loadtest1234";
+    private static final String[] DEPARTMENTS = {"Dev", "Sales", "HR", "Ops", "Finance"};
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate historyStart;
+    private final List<String> usernames = new ArrayList<>();
+    private Long lunchScheduleId;
+
+    public LoadTestDataset(LoadTestConfig config) {
+        this.historyStart = today.minusDays(config.getHistoryDays());
+    }
+
+    public void seed(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, LoadTestConfig config) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        List<Object[]> userRows = new ArrayList<>(config.getUsers());
+        for (int i = 0; i < config.getUsers(); i++) {
+            String username = USERNAME_PREFIX + i;
+            usernames.add(username);
+            userRows.add(new Object[]{username, "부하" + i, encoded, DEPARTMENTS[i % DEPARTMENTS.length], now, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (username, name, password, department, role, approved, active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'USER', TRUE, TRUE, ?, ?)", userRows);
+        List<Long> userIds = jdbcTemplate.queryForList(
+            "SELECT id FROM users WHERE username LIKE '" + USERNAME_PREFIX + "%' ORDER BY id", Long.class);
+
+        List<Object[]> scheduleRows = new ArrayList<>();
+        for (LocalDate date = historyStart; !date.isAfter(today); date = date.plusDays(1)) {
+            for (MealType mealType : MealType.values()) {
+                scheduleRows.add(new Object[]{Date.valueOf(date), mealType.name(), userIds.get(0), now});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO meal_schedules (meal_date, meal_type, active, created_by, created_at) VALUES (?, ?, TRUE, ?, ?)",
+            scheduleRows);
+
+        lunchScheduleId = jdbcTemplate.queryForObject(
+            "SELECT id FROM meal_schedules WHERE meal_date = ? AND meal_type = ?",
+            Long.class, Date.valueOf(today), MealType.LUNCH.name());
+        List<Long> pastScheduleIds = jdbcTemplate.queryForList(
+            "SELECT id FROM meal_schedules WHERE meal_date < ? ORDER BY id", Long.class, Date.valueOf(today));
+
+        Random random = new Random(config.getSeed());
+        List<Object[]> participantRows = new ArrayList<>();
+        for (Long scheduleId : pastScheduleIds) {
+            for (Long userId : userIds) {
+                if (random.nextDouble() < config.getCheckRate()) {
+                    participantRows.add(new Object[]{scheduleId, userId, now, now});
+                }
+            }
+            if (participantRows.size() >= 10_000) {
+                insertParticipants(jdbcTemplate, participantRows);
+            }
+        }
+        insertParticipants(jdbcTemplate, participantRows);
+    }
+
+    private static void insertParticipants(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO meal_schedule_participants (schedule_id, user_id, checked, created_at, updated_at) " +
+            "VALUES (?, ?, TRUE, ?, ?)", rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,260 @@
+package com.mealcheck.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mealcheck.MealCheckApplication;
+import com.mealcheck.loadtest.LoadTestConfig.Endpoint;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 점심 시간대 트래픽 재현 부하 테스트.
+ *
+ * local 프로파일(H2)로 애플리케이션을 임의 포트에 띄우고 데이터를 넣은 뒤,
+ * 사용자 N 명을 /api/auth/login 으로 로그인시키고 concurrency 개의 워커가
+ * mix 비율대로 스케줄 조회 / 체크 / 미수령자 폴링 / 내 식사 기록 조회를 반복합니다.
+ * warmup 구간은 버리고 duration 구간의 엔드포인트별 p50/p95/p99, 처리량을 JSON 으로 남깁니다.
+ *
+ * 실행: mvn -Ploadtest test-compile exec:exec [-Dloadtest.users=500 -Dloadtest.mix=date=50,check=50]
+ */
+public class LunchRushLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final LoadTestDataset dataset;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Endpoint[] weightedEndpoints;
+
+    LunchRushLoadTest(LoadTestConfig config, LoadTestDataset dataset, ObjectMapper objectMapper, int port) {
+        this.config = config;
+        this.dataset = dataset;
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+        List<Endpoint> weighted = new ArrayList<>();
+        config.getMix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = weighted.toArray(new Endpoint[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MealCheckApplication.class)
+            .profiles("local")
+            .run(
+                // 테스트 리소스(application.yml)가 아닌 실제 애플리케이션 설정 + application-local.yml 사용
+                "--spring.config.location=file:" + config.getConfigLocation(),
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                // 콘솔 출력(SQL 로그 등)이 응답 시간에 섞이지 않도록 로그만 줄임
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.mealcheck=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate.tool.schema=ERROR",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        int exitCode = 0;
+        try {
+            LoadTestDataset dataset = new LoadTestDataset(config);
+            dataset.seed(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class), config);
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            Map<String, Object> report = new LunchRushLoadTest(config, dataset, context.getBean(ObjectMapper.class), port).run();
+            File reportFile = new File(config.getReportFile());
+            File parent = reportFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+            System.out.println("report: " + reportFile.getAbsolutePath());
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    Map<String, Object> run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(config.getConcurrency());
+        try {
+            LatencyRecorder loginRecorder = new LatencyRecorder();
+            long loginStart = System.nanoTime();
+            List<Session> sessions = login(executor, loginRecorder);
+            double loginSeconds = (System.nanoTime() - loginStart) / 1_000_000_000.0;
+            if (sessions.isEmpty()) {
+                throw new IllegalStateException("로그인에 성공한 사용자가 없습니다");
+            }
+
+            if (config.getWarmupSeconds() > 0) {
+                runPhase(executor, sessions, config.getWarmupSeconds());
+            }
+            long start = System.nanoTime();
+            LatencyRecorder recorder = runPhase(executor, sessions, config.getDurationSeconds());
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Map<String, Object> endpoints = recorder.summarize(elapsedSeconds);
+            printSummary(endpoints);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", OffsetDateTime.now().toString());
+            report.put("profile", "local");
+            report.put("config", config.toMap());
+            report.put("login", loginRecorder.summarize(loginSeconds).get(Endpoint.LOGIN.getKey()));
+            report.put("loggedInUsers", sessions.size());
+            report.put("elapsedSeconds", Math.round(elapsedSeconds * 1000) / 1000.0);
+            report.put("totalRequests", recorder.totalRequests());
+            report.put("totalThroughputPerSec", Math.round(recorder.totalRequests() / elapsedSeconds * 1000) / 1000.0);
+            report.put("endpoints", endpoints);
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 모든 사용자를 워커 풀에서 로그인시키고, 실패한 사용자는 제외
+    private List<Session> login(ExecutorService executor, LatencyRecorder loginRecorder) throws Exception {
+        List<Callable<Session>> tasks = new ArrayList<>();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        for (String username : dataset.getUsernames()) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            tasks.add(() -> login(username, recorder));
+        }
+        List<Session> sessions = new ArrayList<>();
+        for (Future<Session> future : executor.invokeAll(tasks)) {
+            Session session = future.get();
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
+        recorders.forEach(loginRecorder::merge);
+        return sessions;
+    }
+
+    private Session login(String username, LatencyRecorder recorder) {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + LoadTestDataset.PASSWORD + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() == 200;
+            recorder.record(Endpoint.LOGIN, System.nanoTime() - start, success);
+            if (!success) {
+                return null;
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            return new Session(json.get("id").asLong(), json.get("token").asText());
+        } catch (Exception e) {
+            recorder.record(Endpoint.LOGIN, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    // 워커마다 별도 기록기를 두고 deadline 까지 반복한 뒤 합침
+    private LatencyRecorder runPhase(ExecutorService executor, List<Session> sessions, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Callable<LatencyRecorder>> workers = new ArrayList<>();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            Random random = new Random(config.getSeed() + i);
+            workers.add(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    Session session = sessions.get(random.nextInt(sessions.size()));
+                    Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+                    send(endpoint, session, recorder);
+                    if (config.getThinkTimeMs() > 0) {
+                        Thread.sleep(config.getThinkTimeMs());
+                    }
+                }
+                return recorder;
+            });
+        }
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : executor.invokeAll(workers)) {
+            merged.merge(future.get());
+        }
+        return merged;
+    }
+
+    private void send(Endpoint endpoint, Session session, LatencyRecorder recorder) {
+        HttpRequest request = buildRequest(endpoint, session);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() / 100 == 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+        }
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, Session session) {
+        String schedulesUrl = baseUrl + "/api/meal-schedules";
+        HttpRequest.Builder builder;
+        switch (endpoint) {
+            case DATE -> builder = HttpRequest.newBuilder(URI.create(schedulesUrl + "/date/" + dataset.getToday())).GET();
+            case CHECK -> builder = HttpRequest.newBuilder(URI.create(schedulesUrl + "/" + dataset.getLunchScheduleId() + "/check"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":" + session.userId() + "}"));
+            case UNCHECKED -> builder = HttpRequest.newBuilder(
+                URI.create(schedulesUrl + "/" + dataset.getLunchScheduleId() + "/participants/unchecked")).GET();
+            case HISTORY -> builder = HttpRequest.newBuilder(URI.create(schedulesUrl + "/history/my?startDate="
+                + dataset.getHistoryStart() + "&endDate=" + dataset.getToday())).GET();
+            default -> throw new IllegalArgumentException("부하 대상이 아닌 엔드포인트입니다: " + endpoint);
+        }
+        return builder
+            .timeout(REQUEST_TIMEOUT)
+            .header("Authorization", "Bearer " + session.token())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printSummary(Map<String, Object> endpoints) {
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)");
+        endpoints.forEach((key, value) -> {
+            Map<String, Object> stats = (Map<String, Object>) value;
+            System.out.printf("%-10s %10s %8s %10s %9s %9s %9s%n", key, stats.get("requests"), stats.get("errors"),
+                stats.get("throughputPerSec"), stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms"));
+        });
+    }
+
+    private record Session(Long userId, String token) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.mealcheck.config;
+
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SecurityContext 에 저장되는 인증 사용자 정보입니다.
+ *
+ * JWT 클레임(uid, role, approved)만으로 생성할 수 있어, 컨트롤러에서
+ * {@code @AuthenticationPrincipal} 로 사용자 ID 를 바로 꺼내 쓸 수 있습니다.
+ * (로그인 시 DB 에서 로딩한 경우에만 password 가 채워집니다.)
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String username;
+    private String password;
+    private final String role;
+    private final boolean approved;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String username, String password, String role, boolean approved) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.approved = approved;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
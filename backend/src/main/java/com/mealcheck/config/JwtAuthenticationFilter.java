@@ -1,6 +1,9 @@
 package com.mealcheck.config;
 
 import com.mealcheck.service.CustomUserDetailsService;
+import com.mealcheck.service.UserRosterCache;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +11,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -25,6 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private UserRosterCache userRosterCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                     HttpServletResponse response, 
@@ -32,9 +38,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            // 서명 검증은 한 번만 수행 (최근 검증한 토큰은 캐시된 클레임 사용)
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
+
+            if (claims != null) {
+
+                // 사용자 ID/권한/승인 여부가 토큰에 있으면 DB 조회 없이 인증 처리
+                AuthenticatedUser userDetails = tokenProvider.getAuthenticatedUser(claims);
+                if (userDetails == null) {
+                    // 클레임이 없는 이전 형식 토큰은 DB 에서 사용자 정보를 조회
+                    userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
+                } else if (!userDetails.isApproved()) {
+                    throw new UsernameNotFoundException("User not approved yet: " + claims.getSubject());
+                } else {
+                    userDetails = currentUser(userDetails);
+                }
                 
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -49,6 +67,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 발급 이후 삭제·비활성화·승인 취소된 사용자는 만료 전이라도 거부합니다.
+     * 사용자 명단 캐시로 확인하므로 요청마다 DB 를 조회하지 않고, 권한도 명단의 현재 역할을 사용합니다.
+     * (데모 계정은 명단에서 제외되어 있으므로 인증 정보 캐시에서 조회)
+     */
+    private AuthenticatedUser currentUser(AuthenticatedUser tokenUser) {
+        if (DemoAccountGuard.DEMO_USERNAME.equals(tokenUser.getUsername())) {
+            return customUserDetailsService.loadUserByUsername(tokenUser.getUsername());
+        }
+        RosterUser rosterUser = userRosterCache.findApprovedUser(tokenUser.getId())
+            .filter(RosterUser::isActive)
+            .orElseThrow(() -> new UsernameNotFoundException("User no longer active: " + tokenUser.getUsername()));
+        return new AuthenticatedUser(rosterUser.getId(), tokenUser.getUsername(), null, rosterUser.getRole(), true);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,7 +1,9 @@
 package com.mealcheck.config;
 
+import com.mealcheck.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -9,10 +11,17 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
 
+    // 요청마다 사용자 조회를 하지 않도록 토큰에 함께 담는 클레임
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_APPROVED = "approved";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -23,53 +32,119 @@ public class JwtTokenProvider {
     @Value("${jwt.rememberExpiration:2592000000}")
     private long jwtRememberExpirationInMs;
 
-    private SecretKey getSigningKey() {
+    // 검증된 토큰 캐시: 같은 토큰으로 반복 요청 시 서명 검증(HMAC)을 생략
+    @Value("${jwt.cache.ttl:60000}")
+    private long cacheTtlInMs;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    // 시작 시 한 번만 만들어 재사용 (SecretKey, JwtParser 모두 thread-safe)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    private final Map<String, CachedClaims> verifiedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
         // jwt.secret 을 일반 텍스트로 사용 (Base64 인코딩 강제 X)
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
         // JJWT 요구사항: 최소 256bit(32byte) 이상이어야 함 → 부족하면 32바이트까지 패딩
         if (keyBytes.length < 32) {
             keyBytes = Arrays.copyOf(keyBytes, 32);
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
-    public String generateToken(String username) {
-        return generateToken(username, false);
+    public String generateToken(User user) {
+        return generateToken(user, false);
     }
 
-    public String generateToken(String username, boolean rememberMe) {
+    public String generateToken(User user, boolean rememberMe) {
         Date now = new Date();
         long expiration = rememberMe ? jwtRememberExpirationInMs : jwtExpirationInMs;
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .subject(username)
+                .subject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_APPROVED, user.getApproved())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+    /**
+     * 토큰 클레임으로 인증 사용자 정보를 만듭니다.
+     * 클레임이 없는 이전 형식의 토큰이면 null 을 반환합니다.
+     */
+    public AuthenticatedUser getAuthenticatedUser(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Boolean approved = claims.get(CLAIM_APPROVED, Boolean.class);
+        if (userId == null || role == null || approved == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), null, role, approved);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 반환합니다. 유효하지 않으면 null 을 반환합니다.
+     * 최근 검증한 토큰은 캐시 TTL 과 토큰 만료 시각 중 빠른 시점까지 서명 검증 없이 재사용합니다.
+     */
+    public Claims parseClaims(String token) {
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return cached.claims;
+            }
+            verifiedTokens.remove(token, cached);
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+
+        long expiresAt = now + cacheTtlInMs;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
         }
+        cache(token, new CachedClaims(claims, expiresAt), now);
+        return claims;
     }
-}
 
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    private void cache(String token, CachedClaims entry, long now) {
+        if (verifiedTokens.size() >= cacheMaxSize) {
+            // 만료된 항목부터 정리하고, 그래도 가득 차 있으면 전부 비움
+            verifiedTokens.values().removeIf(c -> c.expiresAt <= now);
+            if (verifiedTokens.size() >= cacheMaxSize) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(token, entry);
+    }
+
+    private static final class CachedClaims {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mealcheck.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 메트릭 설정.
+ *
+ * - @Timed 가 붙은 서비스 클래스의 모든 public 메서드 지연시간 (mealcheck.service, class/method/exception 태그)
+ * - 요청별 SQL 실행 횟수를 위한 DataSource 래핑 (QueryCountFilter 참고)
+ * 리포지토리 호출 지연시간은 Spring Boot 의 spring.data.repository.invocations 로 자동 수집됩니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? QueryCountingDataSource.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
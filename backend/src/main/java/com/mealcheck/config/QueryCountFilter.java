@@ -0,0 +1,194 @@
+package com.mealcheck.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청별 SQL 예산.
+ *
+ * 요청 하나에서 실행된 SQL 문 수(mealcheck.http.queries)와 JDBC 시간(mealcheck.http.jdbc.time)을 기록하고,
+ * 예산(문 수, JDBC 시간)을 넘거나 같은 SQL 이 반복 실행되면(N+1 의심) 경고 로그와
+ * mealcheck.http.query.budget.exceeded 카운터를 남깁니다.
+ * expose-headers 가 켜져 있으면(운영 외 환경) X-Query-Count / X-Query-Time-Ms 응답 헤더를 붙입니다.
+ *
+ * 인증 필터(JWT 사용자 조회)까지 포함하도록 가장 바깥에서 실행되며,
+ * uri 태그는 /api/meal-schedules/{id}/check 처럼 매핑 패턴을 사용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+    static final String METRIC_NAME = "mealcheck.http.queries";
+    static final String JDBC_TIME_METRIC_NAME = "mealcheck.http.jdbc.time";
+    static final String BUDGET_EXCEEDED_METRIC_NAME = "mealcheck.http.query.budget.exceeded";
+    private static final double[] SLOS = {1, 2, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mealcheck.query-budget.max-statements:50}")
+    private int maxStatements = 50;
+
+    @Value("${mealcheck.query-budget.max-jdbc-time-ms:1000}")
+    private long maxJdbcTimeMs = 1000;
+
+    // 같은 SQL 이 이 횟수 이상 실행되면 N+1 로 의심
+    @Value("${mealcheck.query-budget.repeated-statement-threshold:10}")
+    private int repeatedStatementThreshold = 10;
+
+    @Value("${mealcheck.query-budget.expose-headers:false}")
+    private boolean exposeHeaders;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            try {
+                filterChain.doFilter(request, exposeHeaders ? new QueryHeaderResponse(response, scope) : response);
+            } finally {
+                // 본문 없이 끝난 응답(204 등)은 여기서 최종 값으로 헤더를 붙임
+                if (exposeHeaders && !response.isCommitted()) {
+                    writeHeaders(response, scope);
+                }
+                record(request, response, scope);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryCounter.Scope scope) {
+        String uri = uriPattern(request);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri, "status", String.valueOf(response.getStatus()));
+        long statements = scope.getCount();
+        long jdbcMillis = TimeUnit.NANOSECONDS.toMillis(scope.getJdbcNanos());
+
+        DistributionSummary.builder(METRIC_NAME)
+            .description("SQL statements executed per HTTP request")
+            .tags(tags)
+            .serviceLevelObjectives(SLOS)
+            .register(meterRegistry)
+            .record(statements);
+        Timer.builder(JDBC_TIME_METRIC_NAME)
+            .description("JDBC execution time per HTTP request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(scope.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (statements > maxStatements) {
+            exceeded(uri, "statements");
+            log.warn("SQL budget exceeded - {} {} statements={} (budget {}), jdbcTime={}ms",
+                request.getMethod(), request.getRequestURI(), statements, maxStatements, jdbcMillis);
+        }
+        if (jdbcMillis > maxJdbcTimeMs) {
+            exceeded(uri, "jdbc-time");
+            log.warn("SQL budget exceeded - {} {} jdbcTime={}ms (budget {}ms), statements={}",
+                request.getMethod(), request.getRequestURI(), jdbcMillis, maxJdbcTimeMs, statements);
+        }
+        Map.Entry<String, Integer> repeated = scope.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= repeatedStatementThreshold) {
+            exceeded(uri, "repeated-statement");
+            log.warn("possible N+1 - {} {} executed the same statement {} times: {}",
+                request.getMethod(), request.getRequestURI(), repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private void exceeded(String uri, String reason) {
+        Counter.builder(BUDGET_EXCEEDED_METRIC_NAME)
+            .description("HTTP requests exceeding the SQL budget")
+            .tag("uri", uri)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryCounter.Scope scope) {
+        response.setHeader(COUNT_HEADER, String.valueOf(scope.getCount()));
+        response.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(scope.getJdbcNanos())));
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * 본문을 쓰기 시작하면 응답이 커밋되어 헤더를 붙일 수 없으므로, 그 직전 시점의 값으로 헤더를 붙입니다.
+     * (스트리밍 응답은 본문 전송 중 실행된 SQL 이 헤더에 포함되지 않음)
+     */
+    private static class QueryHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter.Scope scope;
+
+        QueryHeaderResponse(HttpServletResponse response, QueryCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        private void beforeCommit() {
+            if (!isCommitted()) {
+                writeHeaders((HttpServletResponse) getResponse(), scope);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit();
+            super.sendRedirect(location);
+        }
+    }
+}
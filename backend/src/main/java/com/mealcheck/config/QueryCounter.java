@@ -0,0 +1,90 @@
+package com.mealcheck.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수와 JDBC 실행 시간을 셉니다.
+ *
+ * QueryCountFilter 가 요청마다 start() 로 범위를 열고, QueryCountingDataSource 가
+ * Statement 실행(execute*, executeBatch 는 한 번)마다 record() 를 호출합니다.
+ * 범위 밖(스케줄러, 쓰기 지연 flush 등)에서 실행된 SQL 은 세지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 새 범위를 엽니다. 이미 열린 범위가 있으면 그 범위를 그대로 사용합니다 (close 해도 닫히지 않음).
+     */
+    public static Scope start() {
+        Scope existing = CURRENT.get();
+        if (existing != null) {
+            return new Scope(existing);
+        }
+        Scope scope = new Scope(null);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 범위에서 지금까지 실행된 SQL 문 수 (범위가 없으면 0)
+     */
+    public static long current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.getCount();
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+            scope.jdbcNanos += elapsedNanos;
+            if (sql != null) {
+                scope.executionsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        // 중첩 범위는 바깥 범위의 값을 공유
+        private final Scope outer;
+        private long count;
+        private long jdbcNanos;
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+        private Scope(Scope outer) {
+            this.outer = outer;
+        }
+
+        public long getCount() {
+            return outer != null ? outer.getCount() : count;
+        }
+
+        public long getJdbcNanos() {
+            return outer != null ? outer.getJdbcNanos() : jdbcNanos;
+        }
+
+        /**
+         * 가장 많이 반복 실행된 SQL 과 그 횟수 (N+1 의심 판단용, 없으면 null)
+         */
+        public Map.Entry<String, Integer> mostRepeatedStatement() {
+            if (outer != null) {
+                return outer.mostRepeatedStatement();
+            }
+            return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mealcheck.config;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 횟수와 시간을 QueryCounter 에 기록하도록 DataSource 를 감쌉니다.
+ *
+ * DataSource -> Connection -> Statement 를 JDK 프록시로 감싸므로 JPA(Hibernate)와
+ * JdbcTemplate 으로 실행한 SQL 이 모두 집계됩니다. unwrap/isWrapperFor 는 원본에 위임하므로
+ * Hikari 풀 메트릭 등 원본 타입을 찾는 코드는 그대로 동작합니다.
+ */
+public final class QueryCountingDataSource {
+
+    private QueryCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        if (Proxy.isProxyClass(dataSource.getClass())
+                && Proxy.getInvocationHandler(dataSource) instanceof DataSourceHandler) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, new DataSourceHandler(dataSource));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                return proxy(Connection.class, new ConnectionHandler(connection));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            // createStatement / prepareStatement / prepareCall 의 반환 타입 그대로 감싸고, 준비된 SQL 을 함께 보관
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+            // Statement.execute(sql) 처럼 실행 시점에 SQL 이 넘어오는 경우도 처리
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(target, method, args);
+            } finally {
+                QueryCounter.record(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
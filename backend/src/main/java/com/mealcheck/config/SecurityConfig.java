@@ -1,6 +1,7 @@
 package com.mealcheck.config;
 
 import com.mealcheck.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,8 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답의 비동기 디스패치는 최초 요청에서 이미 권한 검사를 통과한 요청
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/login").permitAll()
                 .requestMatchers("/api/auth/register").permitAll()
                 .requestMatchers("/api/auth/check-username/**").permitAll()
@@ -67,6 +70,9 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/users/statistics").hasRole("ADMIN")
                 .requestMatchers("/api/users/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/meal-schedules").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/meal-schedules/recurring").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/meal-schedules/statistics/rebuild").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/meal-schedules/*/check/batch").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/meal-schedules/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/meal-schedules/**").hasRole("ADMIN")
                 .requestMatchers("/api/meal-schedules/**").authenticated()
@@ -1,20 +1,37 @@
 package com.mealcheck.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mealcheck.config.AuthenticatedUser;
 import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.dto.MealHistoryPageDTO;
+import com.mealcheck.dto.MealScheduleBatchCheckRequest;
+import com.mealcheck.dto.MealScheduleBatchCheckResultDTO;
 import com.mealcheck.dto.MealScheduleDTO;
 import com.mealcheck.dto.MealScheduleParticipantDTO;
-import com.mealcheck.entity.User;
-import com.mealcheck.repository.UserRepository;
+import com.mealcheck.dto.MealScheduleRecurrenceRequest;
+import com.mealcheck.dto.MealScheduleRecurrenceResultDTO;
+import com.mealcheck.service.MealHistoryExportService;
+import com.mealcheck.service.MealRollupService;
 import com.mealcheck.service.MealScheduleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +43,9 @@ import java.util.Map;
 public class MealScheduleController {
     
     private final MealScheduleService scheduleService;
-    private final UserRepository userRepository;
+    private final MealHistoryExportService exportService;
+    private final MealRollupService rollupService;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
     public ResponseEntity<List<MealScheduleDTO>> getAllSchedules() {
@@ -46,14 +65,8 @@ public class MealScheduleController {
     @GetMapping("/date/{date}")
     public ResponseEntity<List<MealScheduleDTO>> getSchedulesByDate(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
-        
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
-        return ResponseEntity.ok(scheduleService.getSchedulesByDate(date, user.getId()));
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(scheduleService.getSchedulesByDate(date, currentUser.getId()));
     }
     
     @GetMapping("/{id}")
@@ -64,17 +77,20 @@ public class MealScheduleController {
     @PostMapping
     public ResponseEntity<MealScheduleDTO> createSchedule(
             @Valid @RequestBody MealScheduleDTO dto,
-            Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
-        
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
-        MealScheduleDTO created = scheduleService.createSchedule(dto, user.getId());
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        MealScheduleDTO created = scheduleService.createSchedule(dto, currentUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    // 반복 스케줄 일괄 생성 (기간 내 요일 × 식사 타입, 공휴일/기존 스케줄 제외)
+    @PostMapping("/recurring")
+    public ResponseEntity<MealScheduleRecurrenceResultDTO> createRecurringSchedules(
+            @Valid @RequestBody MealScheduleRecurrenceRequest request,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        MealScheduleRecurrenceResultDTO result = scheduleService.createRecurringSchedules(request, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<MealScheduleDTO> updateSchedule(
             @PathVariable Long id,
@@ -105,6 +121,12 @@ public class MealScheduleController {
         return ResponseEntity.ok(scheduleService.getUncheckedParticipants(id));
     }
     
+    // 실시간 수령 현황 (text/event-stream: snapshot 후 delta 이벤트)
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCheckInEvents(@PathVariable Long id) {
+        return scheduleService.subscribeCheckInEvents(id);
+    }
+    
     @PostMapping("/{id}/check")
     public ResponseEntity<MealScheduleParticipantDTO> checkSchedule(
             @PathVariable Long id,
@@ -116,6 +138,14 @@ public class MealScheduleController {
         return ResponseEntity.ok(participant);
     }
     
+    // 여러 사용자 일괄 체크 (항목별 결과 반환, 일부 실패해도 나머지는 처리)
+    @PostMapping("/{id}/check/batch")
+    public ResponseEntity<List<MealScheduleBatchCheckResultDTO>> checkScheduleBatch(
+            @PathVariable Long id,
+            @Valid @RequestBody MealScheduleBatchCheckRequest request) {
+        return ResponseEntity.ok(scheduleService.checkParticipants(id, request.getEntries()));
+    }
+    
     @PostMapping("/{id}/uncheck")
     public ResponseEntity<Void> uncheckSchedule(
             @PathVariable Long id,
@@ -130,14 +160,8 @@ public class MealScheduleController {
     public ResponseEntity<List<MealHistoryDTO>> getMyMealHistory(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
-        
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
-        return ResponseEntity.ok(scheduleService.getUserMealHistory(user.getId(), startDate, endDate));
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(scheduleService.getUserMealHistory(currentUser.getId(), startDate, endDate));
     }
     
     @GetMapping("/history/all")
@@ -147,6 +171,64 @@ public class MealScheduleController {
         return ResponseEntity.ok(scheduleService.getAllMealHistory(startDate, endDate));
     }
     
+    // size 파라미터가 있으면 키셋 페이지 조회 (cursor 는 이전 응답의 nextCursor)
+    // stream=true 와 함께 오면 두 매핑이 모두 맞아 모호하므로 스트리밍 요청이 아닐 때만 매칭
+    @GetMapping(value = "/history/all", params = {"size", "stream!=true"})
+    public ResponseEntity<MealHistoryPageDTO> getAllMealHistoryPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        return ResponseEntity.ok(scheduleService.getAllMealHistoryPage(startDate, endDate, cursor, size));
+    }
+    
+    // stream=true 이면 DB 커서에서 읽는 대로 JSON 배열을 바로 써서 내려보냄
+    @GetMapping(value = "/history/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllMealHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ObjectWriter writer = objectMapper.writerFor(MealHistoryDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                scheduleService.streamAllMealHistory(startDate, endDate, dto -> {
+                    try {
+                        writer.writeValue(generator, dto);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    // 전체 식사 기록 CSV 내보내기 (status: all, checked, unchecked)
+    @GetMapping("/history/all/export")
+    public ResponseEntity<StreamingResponseBody> exportAllMealHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "all") String status) {
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 먼저 검증 (잘못된 값은 400)
+        Boolean checkedFilter = exportService.parseStatus(status);
+        String fileName = String.format("meal-history_%s_%s_%s.csv",
+            startDate != null ? startDate : "all",
+            endDate != null ? endDate : "all",
+            status);
+        
+        StreamingResponseBody body = outputStream ->
+            exportService.writeCsv(startDate, endDate, checkedFilter, outputStream);
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+            .body(body);
+    }
+    
     @GetMapping("/history/user/{userId}")
     public ResponseEntity<List<MealHistoryDTO>> getUserMealHistoryById(
             @PathVariable Long userId,
@@ -154,4 +236,21 @@ public class MealScheduleController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         return ResponseEntity.ok(scheduleService.getUserMealHistory(userId, startDate, endDate));
     }
+    
+    // 기간 내 수령 통계 (일별 집계 테이블 기준)
+    @GetMapping("/statistics")
+    public ResponseEntity<Map<String, Object>> getStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(rollupService.getStatistics(startDate, endDate));
+    }
+    
+    // 기간 내 집계 재계산 (관리자)
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        int rows = rollupService.rebuild(startDate, endDate);
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
 }
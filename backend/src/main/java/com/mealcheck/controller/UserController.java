@@ -1,19 +1,22 @@
 package com.mealcheck.controller;
 
+import com.mealcheck.config.AuthenticatedUser;
 import com.mealcheck.dto.ChangePasswordRequest;
 import com.mealcheck.dto.CreateUserRequest;
 import com.mealcheck.dto.UserDTO;
-import com.mealcheck.entity.User;
-import com.mealcheck.repository.UserRepository;
+import com.mealcheck.dto.UserDirectoryPageDTO;
+import com.mealcheck.dto.UserImportResultDTO;
+import com.mealcheck.service.UserImportService;
 import com.mealcheck.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -24,7 +27,7 @@ import java.util.Map;
 public class UserController {
     
     private final UserService userService;
-    private final UserRepository userRepository;
+    private final UserImportService userImportService;
     
     @GetMapping
     public ResponseEntity<List<UserDTO>> getAllUsers() {
@@ -36,6 +39,18 @@ public class UserController {
         return ResponseEntity.ok(userService.getActiveUsers());
     }
     
+    // 관리자 사용자 목록: 필터 + 키셋 페이지 (cursor 는 이전 응답의 nextCursor)
+    @GetMapping("/directory")
+    public ResponseEntity<UserDirectoryPageDTO> getUserDirectory(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userService.getUserDirectoryPage(department, active, role, name, cursor, size));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUserById(id));
@@ -47,6 +62,12 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    // 요청 본문(CSV)을 버퍼링하지 않고 그대로 읽어 한 줄씩 처리
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<UserImportResultDTO> importUsers(InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importCsv(body));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<UserDTO> updateUser(
             @PathVariable Long id, 
@@ -69,15 +90,9 @@ public class UserController {
     @PostMapping("/change-password")
     public ResponseEntity<?> changePassword(
             @Valid @RequestBody ChangePasswordRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         try {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String username = userDetails.getUsername();
-            
-            User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-            
-            userService.changePassword(user.getId(), request);
+            userService.changePassword(currentUser.getId(), request);
             return ResponseEntity.ok(Map.of("message", "비밀번호가 성공적으로 변경되었습니다"));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
@@ -0,0 +1,20 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전체 식사 기록 키셋 페이지 응답.
+ * nextCursor 를 다음 요청의 cursor 파라미터로 그대로 전달하면 이어서 조회합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealHistoryPageDTO {
+    private List<MealHistoryDTO> content;
+    private boolean hasNext;
+    private String nextCursor;
+}
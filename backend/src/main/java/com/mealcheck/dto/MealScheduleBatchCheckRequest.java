@@ -0,0 +1,30 @@
+package com.mealcheck.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealScheduleBatchCheckRequest {
+    
+    @NotEmpty(message = "체크할 사용자 목록은 필수입니다")
+    private List<@Valid Entry> entries;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        
+        @NotNull(message = "사용자 ID는 필수입니다")
+        private Long userId;
+        
+        private String note;
+    }
+}
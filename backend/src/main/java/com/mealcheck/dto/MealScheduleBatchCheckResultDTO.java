@@ -0,0 +1,19 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealScheduleBatchCheckResultDTO {
+    private Long userId;
+    private String userName;
+    // 체크 성공 여부 (이미 수령한 사용자도 성공으로 처리)
+    private Boolean success;
+    // 이번 요청 이전에 이미 수령 상태였는지 여부
+    private Boolean alreadyChecked;
+    // 실패 사유
+    private String message;
+}
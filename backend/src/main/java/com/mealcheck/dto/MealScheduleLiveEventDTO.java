@@ -0,0 +1,24 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스케줄 실시간 수령 현황 (SSE 이벤트 data)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealScheduleLiveEventDTO {
+    private Long scheduleId;
+    // 현재 수령 인원
+    private Long checkedCount;
+    // 식사 체크 대상 활성 사용자 수
+    private Long totalParticipants;
+    // 직전 이벤트 이후 수령/해제된 사용자 ID (snapshot 이벤트에서는 빈 목록)
+    private List<Long> checkedUserIds;
+    private List<Long> uncheckedUserIds;
+}
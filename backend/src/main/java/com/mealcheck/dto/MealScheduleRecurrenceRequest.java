@@ -0,0 +1,38 @@
+package com.mealcheck.dto;
+
+import com.mealcheck.entity.MealSchedule.MealType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 반복 스케줄 일괄 생성 요청 (예: 기간 내 평일 × {LUNCH, DINNER})
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealScheduleRecurrenceRequest {
+    
+    @NotNull(message = "시작 날짜는 필수입니다")
+    private LocalDate startDate;
+    
+    @NotNull(message = "종료 날짜는 필수입니다")
+    private LocalDate endDate;
+    
+    // 비어 있으면 평일(월~금)
+    private Set<DayOfWeek> daysOfWeek;
+    
+    @NotEmpty(message = "식사 타입은 하나 이상 선택해야 합니다")
+    private Set<MealType> mealTypes;
+    
+    private String description;
+    
+    // 공휴일 달력(mealcheck.holidays)에 있는 날짜는 건너뜀
+    private Boolean skipHolidays = true;
+}
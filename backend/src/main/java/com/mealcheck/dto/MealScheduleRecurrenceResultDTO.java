@@ -0,0 +1,20 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealScheduleRecurrenceResultDTO {
+    // 새로 생성된 스케줄
+    private List<MealScheduleDTO> created;
+    // 같은 날짜·식사 타입의 스케줄이 이미 있어 건너뛴 건수
+    private Integer skippedExisting;
+    // 공휴일이라 건너뛴 날짜
+    private List<LocalDate> skippedHolidays;
+}
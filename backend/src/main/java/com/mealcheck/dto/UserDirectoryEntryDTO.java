@@ -0,0 +1,20 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 디렉터리 한 행 (목록 화면에 필요한 컬럼만 조회하는 JPQL 프로젝션)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryEntryDTO {
+    private Long id;
+    private String username;
+    private String name;
+    private String department;
+    private String role;
+    private Boolean active;
+}
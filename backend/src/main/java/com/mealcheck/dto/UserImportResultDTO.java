@@ -0,0 +1,33 @@
+package com.mealcheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDTO {
+    // 헤더를 제외한 데이터 행 수
+    private Integer totalRows;
+    private Integer created;
+    private Integer failed;
+    // 행별 처리 결과 (CSV 순서)
+    private List<Row> rows;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        // CSV 파일의 줄 번호 (헤더가 1)
+        private Integer line;
+        private String username;
+        private Boolean success;
+        // 생성된 사용자 ID
+        private Long userId;
+        // 실패 사유
+        private String message;
+    }
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class MealCheck {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_checks_seq")
+    @SequenceGenerator(name = "meal_checks_seq", sequenceName = "meal_checks_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
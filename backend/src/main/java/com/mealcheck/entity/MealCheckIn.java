@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class MealCheckIn {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_check_ins_seq")
+    @SequenceGenerator(name = "meal_check_ins_seq", sequenceName = "meal_check_ins_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,47 @@
+package com.mealcheck.entity;
+
+import com.mealcheck.entity.MealSchedule.MealType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜 · 식사 타입 · 부서별 식사 수령 집계.
+ * 식사 체크/해제 시 증분 갱신되고, MealRollupService.rebuild() 로 원본 데이터에서 다시 계산할 수 있습니다.
+ * 부서가 없는 사용자는 department = "" 로 집계합니다.
+ */
+@Entity
+@Table(name = "meal_daily_rollup",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"meal_date", "meal_type", "department"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealDailyRollup {
+    
+    // 증분 갱신은 INSERT ... ON DUPLICATE KEY UPDATE 가 id 없이 행을 만들므로 AUTO_INCREMENT 를 유지
+    // (미리 할당 방식을 섞으면 할당 테이블의 다음 값이 AUTO_INCREMENT 로 이미 쓰인 id 와 겹칠 수 있음)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private LocalDate mealDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MealType mealType;
+    
+    @Column(nullable = false, length = 50)
+    private String department = "";
+    
+    // 수령 인원
+    @Column(nullable = false)
+    private Long checkedCount = 0L;
+    
+    // 집계 대상(활성) 인원
+    @Column(nullable = false)
+    private Long eligibleCount = 0L;
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class MealSchedule {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_schedules_seq")
+    @SequenceGenerator(name = "meal_schedules_seq", sequenceName = "meal_schedules_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
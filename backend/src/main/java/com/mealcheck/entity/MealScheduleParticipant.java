@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MealScheduleParticipant {
     
+    // 행 생성은 체크 경로의 INSERT IGNORE(JDBC batch 포함)가 담당하므로 AUTO_INCREMENT 를 유지
+    // (미리 할당 방식은 할당 테이블 갱신에 커넥션을 하나 더 쓰므로 점심 시간대 체크 경로에 두지 않음)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,6 +39,11 @@ public class MealScheduleParticipant {
     @Column(length = 200)
     private String note;
     
+    // 수령 처리 시점의 부서 (집계 행의 부서 값, 부서 없음은 ""). 해제 시 같은 집계 행을 내리는 데 사용
+    // 기록 이전 데이터는 null 이며 사용자의 현재 부서로 집계
+    @Column(length = 50)
+    private String department;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -37,5 +37,13 @@ public interface MealCheckRepository extends JpaRepository<MealCheck, Long> {
         @Param("mealDate") LocalDate mealDate, 
         @Param("mealType") MealType mealType
     );
+    
+    // 기간 내 (식사 타입, 체크 여부) 별 건수 - 통계용
+    @Query("SELECT mc.mealType, mc.checked, COUNT(mc) FROM MealCheck mc " +
+           "WHERE mc.mealDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY mc.mealType, mc.checked")
+    List<Object[]> countByMealTypeAndChecked(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
 }
-
@@ -0,0 +1,43 @@
+package com.mealcheck.repository;
+
+import com.mealcheck.entity.MealDailyRollup;
+import com.mealcheck.entity.MealSchedule.MealType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MealDailyRollupRepository extends JpaRepository<MealDailyRollup, Long> {
+    
+    List<MealDailyRollup> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
+    
+    boolean existsByMealDateAndMealType(LocalDate mealDate, MealType mealType);
+    
+    // 수령 인원 증감 (행이 없으면 생성) - 동시 체크 시에도 한 문장으로 원자적으로 처리
+    // 해제는 수령 때 기록한 부서 행으로 반영하므로, 0 하한은 부서 기록 이전에 수령한 사용자가 부서 이동 후 해제한 경우만 해당
+    @Modifying
+    @Query(value = "INSERT INTO meal_daily_rollup (meal_date, meal_type, department, checked_count, eligible_count) " +
+                   "VALUES (:mealDate, :mealType, :department, GREATEST(:delta, 0), :eligibleCount) " +
+                   "ON DUPLICATE KEY UPDATE checked_count = GREATEST(checked_count + :delta, 0)",
+           nativeQuery = true)
+    int upsertCheckedCount(
+        @Param("mealDate") LocalDate mealDate,
+        @Param("mealType") String mealType,
+        @Param("department") String department,
+        @Param("delta") long delta,
+        @Param("eligibleCount") long eligibleCount
+    );
+    
+    @Modifying
+    @Query("DELETE FROM MealDailyRollup r WHERE r.mealDate BETWEEN :startDate AND :endDate")
+    int deleteByMealDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    @Modifying
+    @Query("DELETE FROM MealDailyRollup r WHERE r.mealDate = :mealDate AND r.mealType = :mealType")
+    int deleteByMealDateAndMealType(@Param("mealDate") LocalDate mealDate, @Param("mealType") MealType mealType);
+}
@@ -0,0 +1,185 @@
+package com.mealcheck.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 식사 참여 정보 일괄 쓰기 (JDBC batch).
+ *
+ * 현재 JPA 트랜잭션의 커넥션을 그대로 사용하며, 각 단계는 한 번의 batch 로 전송됩니다.
+ * rewriteBatchedStatements 로 여러 행 INSERT 로 합쳐지면 드라이버가 행별 건수를 알려주지 않으므로
+ * (Statement.SUCCESS_NO_INFO) 기존 행 여부는 INSERT 건수가 아니라 미리 조회한 상태로 판단합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MealScheduleParticipantBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수령 상태로 일괄 기록하고, 실제로 미수령(또는 행 없음) -> 수령 으로 바뀐 사용자 ID 를 반환합니다.
+     *
+     * 0. 기존 행의 (user_id, checked) 를 IN 조회 한 번으로 확인
+     * 1. 행이 없으면 생성 (INSERT IGNORE)
+     * 2. 미수령 행은 수령으로 전환 (조건부 UPDATE)
+     * 3. 이미 수령 상태면 메모만 갱신 (수령 시각, 부서 유지)
+     * 1, 2 에서는 항목의 부서를 수령 처리 시점의 부서로 함께 기록합니다.
+     * 조회와 기록 사이에 다른 요청이 행을 만들거나 전환하면 건수가 0 인 항목이 다음 단계로 넘어갑니다.
+     */
+    public Set<Long> upsertChecked(Long scheduleId, List<CheckEntry> entries) {
+        Set<Long> changed = new HashSet<>();
+        if (entries.isEmpty()) {
+            return changed;
+        }
+
+        Map<Long, Boolean> states = findCheckedStates(scheduleId, entries);
+        List<CheckEntry> absent = new ArrayList<>();
+        List<CheckEntry> unchecked = new ArrayList<>();
+        List<CheckEntry> checked = new ArrayList<>();
+        for (CheckEntry entry : entries) {
+            Boolean state = states.get(entry.getUserId());
+            if (state == null) {
+                absent.add(entry);
+            } else if (state) {
+                checked.add(entry);
+            } else {
+                unchecked.add(entry);
+            }
+        }
+
+        int[] inserted = batchUpdate(
+            "INSERT IGNORE INTO meal_schedule_participants (schedule_id, user_id, checked, department, note, created_at, updated_at) " +
+            "VALUES (?, ?, TRUE, ?, ?, ?, ?)",
+            absent,
+            (ps, entry) -> {
+                Timestamp checkedAt = Timestamp.valueOf(entry.getCheckedAt());
+                ps.setLong(1, scheduleId);
+                ps.setLong(2, entry.getUserId());
+                ps.setString(3, entry.getDepartment());
+                ps.setString(4, entry.getNote());
+                ps.setTimestamp(5, checkedAt);
+                ps.setTimestamp(6, checkedAt);
+            });
+        unchecked.addAll(collect(absent, inserted, changed));
+
+        int[] transitioned = batchUpdate(
+            "UPDATE meal_schedule_participants SET checked = TRUE, department = ?, note = ?, updated_at = ? " +
+            "WHERE schedule_id = ? AND user_id = ? AND checked = FALSE",
+            unchecked,
+            (ps, entry) -> {
+                ps.setString(1, entry.getDepartment());
+                ps.setString(2, entry.getNote());
+                ps.setTimestamp(3, Timestamp.valueOf(entry.getCheckedAt()));
+                ps.setLong(4, scheduleId);
+                ps.setLong(5, entry.getUserId());
+            });
+        checked.addAll(collect(unchecked, transitioned, changed));
+
+        batchUpdate(
+            "UPDATE meal_schedule_participants SET note = ? WHERE schedule_id = ? AND user_id = ?",
+            checked,
+            (ps, entry) -> {
+                ps.setString(1, entry.getNote());
+                ps.setLong(2, scheduleId);
+                ps.setLong(3, entry.getUserId());
+            });
+        return changed;
+    }
+
+    /**
+     * 수령 -> 미수령 으로 일괄 전환하고, 실제로 바뀐 사용자 ID 를 반환합니다.
+     */
+    public Set<Long> markUnchecked(Long scheduleId, List<CheckEntry> entries) {
+        Set<Long> changed = new HashSet<>();
+        int[] transitioned = batchUpdate(
+            "UPDATE meal_schedule_participants SET checked = FALSE, updated_at = ? " +
+            "WHERE schedule_id = ? AND user_id = ? AND checked = TRUE",
+            entries,
+            (ps, entry) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(entry.getCheckedAt()));
+                ps.setLong(2, scheduleId);
+                ps.setLong(3, entry.getUserId());
+            });
+        collect(entries, transitioned, changed);
+        return changed;
+    }
+
+    // 사용자별 기존 행의 수령 여부 (행이 없으면 포함되지 않음)
+    private Map<Long, Boolean> findCheckedStates(Long scheduleId, List<CheckEntry> entries) {
+        List<Object> args = new ArrayList<>();
+        args.add(scheduleId);
+        entries.forEach(entry -> args.add(entry.getUserId()));
+        String placeholders = String.join(", ", Collections.nCopies(entries.size(), "?"));
+
+        Map<Long, Boolean> states = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT user_id, checked FROM meal_schedule_participants WHERE schedule_id = ? AND user_id IN (" + placeholders + ")",
+            rs -> {
+                states.put(rs.getLong(1), rs.getBoolean(2));
+            },
+            args.toArray());
+        return states;
+    }
+
+    // 영향 건수가 있는 항목은 changed 에 담고, 없는 항목(0)은 다음 단계 대상으로 반환
+    private static List<CheckEntry> collect(List<CheckEntry> entries, int[] counts, Set<Long> changed) {
+        List<CheckEntry> unchanged = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts[i] == 0) {
+                unchanged.add(entries.get(i));
+            } else {
+                changed.add(entries.get(i).getUserId());
+            }
+        }
+        return unchanged;
+    }
+
+    private int[] batchUpdate(String sql, List<CheckEntry> entries, EntrySetter setter) {
+        if (entries.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.setValues(ps, entries.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface EntrySetter {
+        void setValues(PreparedStatement ps, CheckEntry entry) throws SQLException;
+    }
+
+    /**
+     * 일괄 체크 대상 (사용자 ID, 집계 부서, 메모, 체크/해제 시각)
+     * department 는 수령 처리 시 기록할 부서(MealRollupService 집계 행의 부서 값)이며, 해제 시에는 사용하지 않습니다.
+     */
+    @Value
+    public static class CheckEntry {
+        Long userId;
+        String department;
+        String note;
+        LocalDateTime checkedAt;
+    }
+}
@@ -1,18 +1,186 @@
 package com.mealcheck.repository;
 
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.dto.MealScheduleParticipantDTO;
 import com.mealcheck.entity.MealScheduleParticipant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MealScheduleParticipantRepository extends JpaRepository<MealScheduleParticipant, Long> {
     List<MealScheduleParticipant> findByScheduleId(Long scheduleId);
     List<MealScheduleParticipant> findByUserId(Long userId);
     Optional<MealScheduleParticipant> findByScheduleIdAndUserId(Long scheduleId, Long userId);
-    List<MealScheduleParticipant> findByScheduleIdAndCheckedTrue(Long scheduleId);
     long countByScheduleIdAndCheckedTrue(Long scheduleId);
+    
+    // 참여 목록 조회용: 엔티티를 만들지 않고 사용자와 조인해 DTO 로 바로 읽음 (참여자 수와 관계없이 한 번의 쿼리)
+    @Query("SELECT new com.mealcheck.dto.MealScheduleParticipantDTO(" +
+           "p.id, p.schedule.id, u.id, u.name, u.department, p.checked, p.note, p.createdAt, p.updatedAt) " +
+           "FROM MealScheduleParticipant p JOIN p.user u " +
+           "WHERE p.schedule.id = :scheduleId " +
+           "ORDER BY p.id")
+    List<MealScheduleParticipantDTO> findParticipantDTOsByScheduleId(@Param("scheduleId") Long scheduleId);
+    
+    // 수령자 목록 조회용 (위와 같은 DTO 프로젝션, checked = true 만)
+    @Query("SELECT new com.mealcheck.dto.MealScheduleParticipantDTO(" +
+           "p.id, p.schedule.id, u.id, u.name, u.department, p.checked, p.note, p.createdAt, p.updatedAt) " +
+           "FROM MealScheduleParticipant p JOIN p.user u " +
+           "WHERE p.schedule.id = :scheduleId AND p.checked = true " +
+           "ORDER BY p.id")
+    List<MealScheduleParticipantDTO> findCheckedParticipantDTOsByScheduleId(@Param("scheduleId") Long scheduleId);
+    
+    // 스케줄 목록 조회용: 스케줄별 수령 인원을 한 번의 GROUP BY 쿼리로 집계 ([scheduleId, count])
+    @Query("SELECT p.schedule.id, COUNT(p) FROM MealScheduleParticipant p " +
+           "WHERE p.schedule.id IN :scheduleIds AND p.checked = true " +
+           "GROUP BY p.schedule.id")
+    List<Object[]> countCheckedByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    // 스케줄 목록 조회용: 특정 사용자가 수령 체크한 스케줄 ID 목록
+    @Query("SELECT p.schedule.id FROM MealScheduleParticipant p " +
+           "WHERE p.user.id = :userId AND p.schedule.id IN :scheduleIds AND p.checked = true")
+    List<Long> findCheckedScheduleIdsByUserId(
+        @Param("userId") Long userId,
+        @Param("scheduleIds") Collection<Long> scheduleIds
+    );
+    
+    // 수령자 인덱스(CheckedUserIndex) 적재용: 스케줄별 수령 사용자 ID ([scheduleId, userId])
+    @Query("SELECT p.schedule.id, p.user.id FROM MealScheduleParticipant p " +
+           "WHERE p.schedule.id IN :scheduleIds AND p.checked = true")
+    List<Object[]> findCheckedUserIdsByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    // 집계 재계산용: 스케줄 · 부서별 수령 인원 ([scheduleId, department, count])
+    @Query("SELECT p.schedule.id, COALESCE(p.department, u.department), COUNT(p) FROM MealScheduleParticipant p JOIN p.user u " +
+           "WHERE p.schedule.mealDate BETWEEN :startDate AND :endDate AND p.checked = true " +
+           "GROUP BY p.schedule.id, COALESCE(p.department, u.department)")
+    List<Object[]> countCheckedByScheduleAndDepartment(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    // 식사 기록 조회용: 스케줄/사용자를 함께 로딩 (지연 로딩 N+1 방지)
+    @Query("SELECT p FROM MealScheduleParticipant p " +
+           "JOIN FETCH p.schedule s JOIN FETCH p.user u " +
+           "WHERE u.id = :userId " +
+           "ORDER BY s.mealDate, s.id")
+    List<MealScheduleParticipant> findHistoryByUserId(@Param("userId") Long userId);
+    
+    // 식사 기록 조회용: 기간 조건을 DB 에서 처리
+    @Query("SELECT p FROM MealScheduleParticipant p " +
+           "JOIN FETCH p.schedule s JOIN FETCH p.user u " +
+           "WHERE u.id = :userId AND s.mealDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.mealDate, s.id")
+    List<MealScheduleParticipant> findHistoryByUserIdAndMealDateBetween(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    // 전체 식사 기록 조회용: 기간 내 모든 참여 정보 (스케줄/사용자 함께 로딩)
+    @Query("SELECT p FROM MealScheduleParticipant p " +
+           "JOIN FETCH p.schedule s JOIN FETCH p.user u " +
+           "WHERE s.mealDate BETWEEN :startDate AND :endDate")
+    List<MealScheduleParticipant> findHistoryByMealDateBetween(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    // 전체 식사 기록 조회용: 기간 조건 없이 모든 참여 정보 (스케줄/사용자 함께 로딩)
+    @Query("SELECT p FROM MealScheduleParticipant p " +
+           "JOIN FETCH p.schedule s JOIN FETCH p.user u")
+    List<MealScheduleParticipant> findAllHistory();
+    
+    // 전체 식사 기록 페이지 조회용: 지정한 스케줄들의 참여 정보
+    @Query("SELECT p FROM MealScheduleParticipant p " +
+           "JOIN FETCH p.schedule s JOIN FETCH p.user u " +
+           "WHERE s.id IN :scheduleIds")
+    List<MealScheduleParticipant> findHistoryByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
+    // 전체 식사 기록 스트리밍용: 엔티티를 만들지 않고 DTO 로 바로 읽어 DB 커서로 순회
+    // 정렬 순서 (mealDate, scheduleId, userId) 는 스케줄 × 사용자 순회 순서와 같아야 함
+    // MySQL 은 useCursorFetch=true 일 때 fetch size 단위로 읽어옴
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.mealcheck.dto.MealHistoryDTO(" +
+           "p.id, s.id, s.mealDate, s.mealType, s.description, " +
+           "u.id, u.name, u.department, p.checked, p.note, p.updatedAt) " +
+           "FROM MealScheduleParticipant p JOIN p.schedule s JOIN p.user u " +
+           "WHERE s.mealDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.mealDate, s.id, u.id")
+    Stream<MealHistoryDTO> streamHistoryByMealDateBetween(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+    
+    // 식사 체크: (schedule_id, user_id) 행이 없을 때만 수령 상태로 생성 (1: 생성, 0: 이미 존재)
+    // 동시 요청이 와도 유니크 키 기준으로 원자적으로 처리되어 제약 조건 위반이 발생하지 않음
+    // (ON DUPLICATE KEY UPDATE 는 Connector/J 기본 설정(CLIENT_FOUND_ROWS)에서 기존 행도 1 로 반환하므로 INSERT IGNORE 사용)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO meal_schedule_participants (schedule_id, user_id, checked, department, note, created_at, updated_at) " +
+                   "VALUES (:scheduleId, :userId, TRUE, :department, :note, :now, :now)",
+           nativeQuery = true)
+    int insertCheckedIfAbsent(
+        @Param("scheduleId") Long scheduleId,
+        @Param("userId") Long userId,
+        @Param("department") String department,
+        @Param("note") String note,
+        @Param("now") LocalDateTime now
+    );
+    
+    // 식사 체크: 미수령 -> 수령 전환 (전환된 경우에만 1)
+    @Modifying
+    @Query("UPDATE MealScheduleParticipant p SET p.checked = true, p.department = :department, p.note = :note, p.updatedAt = :now " +
+           "WHERE p.schedule.id = :scheduleId AND p.user.id = :userId AND p.checked = false")
+    int markChecked(
+        @Param("scheduleId") Long scheduleId,
+        @Param("userId") Long userId,
+        @Param("department") String department,
+        @Param("note") String note,
+        @Param("now") LocalDateTime now
+    );
+    
+    // 이미 수령한 경우 메모만 갱신 (수령 시각은 유지)
+    @Modifying
+    @Query("UPDATE MealScheduleParticipant p SET p.note = :note " +
+           "WHERE p.schedule.id = :scheduleId AND p.user.id = :userId")
+    int updateNote(
+        @Param("scheduleId") Long scheduleId,
+        @Param("userId") Long userId,
+        @Param("note") String note
+    );
+    
+    // 식사 체크 해제: 수령 -> 미수령 전환 (전환된 경우에만 1)
+    @Modifying
+    @Query("UPDATE MealScheduleParticipant p SET p.checked = false, p.updatedAt = :now " +
+           "WHERE p.schedule.id = :scheduleId AND p.user.id = :userId AND p.checked = true")
+    int markUnchecked(
+        @Param("scheduleId") Long scheduleId,
+        @Param("userId") Long userId,
+        @Param("now") LocalDateTime now
+    );
+    
+    // 수령 처리 시점에 기록한 부서 (기록 이전 데이터는 null)
+    @Query("SELECT p.department FROM MealScheduleParticipant p WHERE p.schedule.id = :scheduleId AND p.user.id = :userId")
+    Optional<String> findDepartmentByScheduleIdAndUserId(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId);
+    
+    // 사용자별 수령 처리 시점의 부서: [userId, department]
+    @Query("SELECT p.user.id, p.department FROM MealScheduleParticipant p " +
+           "WHERE p.schedule.id = :scheduleId AND p.user.id IN :userIds")
+    List<Object[]> findDepartmentsByScheduleIdAndUserIds(
+        @Param("scheduleId") Long scheduleId,
+        @Param("userIds") Collection<Long> userIds
+    );
+    
+    boolean existsByScheduleIdAndUserId(Long scheduleId, Long userId);
 }
-
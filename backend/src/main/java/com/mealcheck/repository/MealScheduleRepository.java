@@ -2,7 +2,11 @@ package com.mealcheck.repository;
 
 import com.mealcheck.entity.MealSchedule;
 import com.mealcheck.entity.MealSchedule.MealType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -11,9 +15,36 @@ import java.util.Optional;
 
 @Repository
 public interface MealScheduleRepository extends JpaRepository<MealSchedule, Long> {
+    // 목록 조회는 DTO 변환 시 생성자 이름을 사용하므로 createdBy 를 함께 로딩 (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<MealSchedule> findAll();
+    
+    @EntityGraph(attributePaths = "createdBy")
     List<MealSchedule> findByMealDate(LocalDate mealDate);
+    
     List<MealSchedule> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
+    
+    List<MealSchedule> findByMealDateBetweenOrderByMealDateAscIdAsc(LocalDate startDate, LocalDate endDate);
+    
+    // 키셋 페이지 조회: (mealDate, id) 가 (afterDate, afterId) 이상인 스케줄부터 순서대로
+    @Query("SELECT s FROM MealSchedule s " +
+           "WHERE s.mealDate BETWEEN :startDate AND :endDate " +
+           "AND (s.mealDate > :afterDate OR (s.mealDate = :afterDate AND s.id >= :afterId)) " +
+           "ORDER BY s.mealDate, s.id")
+    List<MealSchedule> findPageFrom(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    @EntityGraph(attributePaths = "createdBy")
     List<MealSchedule> findByActiveTrue();
+    
     Optional<MealSchedule> findByMealDateAndMealType(LocalDate mealDate, MealType mealType);
+    
+    @EntityGraph(attributePaths = "createdBy")
     List<MealSchedule> findByMealDateGreaterThanEqualOrderByMealDateAsc(LocalDate date);
 }
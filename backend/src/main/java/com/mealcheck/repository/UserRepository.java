@@ -1,9 +1,14 @@
 package com.mealcheck.repository;
 
+import com.mealcheck.dto.UserDirectoryEntryDTO;
 import com.mealcheck.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,5 +26,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByDepartment(String department);
     
     boolean existsByUsername(String username);
+    
+    // 일괄 등록 시 아이디 중복을 한 번에 확인 (username 유니크 인덱스)
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+    
+    // 사용자 디렉터리 키셋 페이지 조회: (name, id) 가 (afterName, afterId) 보다 뒤인 승인된 사용자부터 순서대로
+    // 이름 접두어는 namePattern ('!' 이스케이프, 끝에 '%'), 나머지 필터는 null 이면 조건 없음
+    @Query("SELECT new com.mealcheck.dto.UserDirectoryEntryDTO(u.id, u.username, u.name, u.department, u.role, u.active) " +
+           "FROM User u " +
+           "WHERE u.approved = true AND u.username <> :excludedUsername " +
+           "AND (:department IS NULL OR u.department = :department) " +
+           "AND (:active IS NULL OR u.active = :active) " +
+           "AND (:role IS NULL OR u.role = :role) " +
+           "AND u.name LIKE :namePattern ESCAPE '!' " +
+           "AND (u.name > :afterName OR (u.name = :afterName AND u.id > :afterId)) " +
+           "ORDER BY u.name, u.id")
+    List<UserDirectoryEntryDTO> findDirectoryPage(
+        @Param("excludedUsername") String excludedUsername,
+        @Param("department") String department,
+        @Param("active") Boolean active,
+        @Param("role") String role,
+        @Param("namePattern") String namePattern,
+        @Param("afterName") String afterName,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
 }
 
@@ -7,10 +7,12 @@ import com.mealcheck.dto.LoginRequest;
 import com.mealcheck.dto.RegisterRequest;
 import com.mealcheck.entity.User;
 import com.mealcheck.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 
 @Service
+@Timed(value = "mealcheck.service", histogram = true)
 public class AuthService {
 
     @Autowired
@@ -35,6 +38,15 @@ public class AuthService {
     @Autowired
     private DemoAccountGuard demoAccountGuard;
 
+    @Autowired
+    private UserRosterCache userRosterCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private MealCheckMetrics metrics;
+
     public AuthResponse register(RegisterRequest request) {
         // 아이디 중복 체크
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -58,13 +70,19 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        // 인증 처리
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                request.getUsername(),
-                request.getPassword()
-            )
-        );
+        // 인증 처리 (실패는 원인별로 집계 후 그대로 전파)
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(
+                    request.getUsername(),
+                    request.getPassword()
+                )
+            );
+        } catch (AuthenticationException e) {
+            metrics.loginFailed(e);
+            throw e;
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -74,7 +92,8 @@ public class AuthService {
 
         // JWT 토큰 생성 (자동 로그인 옵션에 따라 만료시간 선택)
         boolean rememberMe = Boolean.TRUE.equals(request.getRememberMe());
-        String token = tokenProvider.generateToken(user.getUsername(), rememberMe);
+        String token = tokenProvider.generateToken(user, rememberMe);
+        metrics.loginSucceeded();
 
         return new AuthResponse(
             token,
@@ -105,6 +124,7 @@ public class AuthService {
         user.setApproved(true);
         user.setActive(true); // 승인 후 활성화
         userRepository.save(user);
+        userRosterCache.invalidate();
     }
 
     public void rejectUser(Long userId) {
@@ -112,6 +132,8 @@ public class AuthService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         userRepository.delete(user);
+        userRosterCache.invalidate();
+        userDetailsService.evictUser(user.getUsername());
     }
 
     public boolean checkUsernameExists(String username) {
@@ -0,0 +1,259 @@
+package com.mealcheck.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mealcheck.dto.MealScheduleLiveEventDTO;
+import com.mealcheck.service.CheckInWriteBehindBuffer.PendingCheck;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스케줄별 식사 체크 실시간 피드 (Server-Sent Events).
+ *
+ * - 구독 시 현재 수령 인원을 snapshot 이벤트로 보내고, 이후 체크/해제는 delta 이벤트로 보냅니다.
+ * - 체크/해제는 커밋 이후 스케줄별로 모아두었다가 coalesce-ms 마다 한 번만 보내므로,
+ *   점심 피크에 요청이 몰려도 구독자당 전송 횟수는 주기당 1회입니다.
+ *   같은 사용자가 주기 안에 여러 번 바뀌면 마지막 상태만 전달됩니다.
+ * - 이벤트 data 는 스케줄당 한 번만 직렬화해 모든 구독자에게 그대로 씁니다.
+ * - SseEmitter 는 비동기 요청으로 처리되어 연결당 서블릿 스레드를 점유하지 않으며,
+ *   끊어진 연결은 heartbeat 전송 실패 시 정리됩니다.
+ * - 전송은 전용 스레드(check-in-events-sender)에서 하므로, 느린 클라이언트의 blocking write 가
+ *   공용 @Scheduled 스레드(쓰기 지연 flush, 집계 재계산)를 붙잡지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInEventHub {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DELTA_EVENT = "delta";
+
+    private final CheckedUserIndex checkedUserIndex;
+    private final CheckInWriteBehindBuffer checkInBuffer;
+    private final UserRosterCache userRosterCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${mealcheck.check-in.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${mealcheck.check-in.events.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // scheduleId -> (userId -> 마지막 수령 여부), lock 으로 보호
+    private final Object lock = new Object();
+    private Map<Long, Map<Long, Boolean>> changes = new HashMap<>();
+
+    // 전송 전용 단일 스레드 (구독자별 이벤트 순서 유지). 전송이 밀리면 같은 작업을 중복으로 쌓지 않음
+    private ExecutorService sender;
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final AtomicBoolean heartbeatQueued = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "check-in-events-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * 스케줄 피드를 구독합니다. 연결 즉시 snapshot 이벤트를 보냅니다.
+     */
+    public SseEmitter subscribe(Long scheduleId) {
+        return subscribe(scheduleId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long scheduleId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RuntimeException("실시간 구독자 수가 너무 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        subscribers.compute(scheduleId, (id, emitters) -> {
+            Set<SseEmitter> target = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        Runnable remove = () -> remove(scheduleId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        try {
+            String data = serialize(event(scheduleId, List.of(), List.of()));
+            emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            remove(scheduleId, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 체크/해제를 알립니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void publish(Long scheduleId, Collection<Long> checkedUserIds, Collection<Long> uncheckedUserIds) {
+        if (checkedUserIds.isEmpty() && uncheckedUserIds.isEmpty()) {
+            return;
+        }
+        Runnable record = () -> {
+            if (!subscribers.containsKey(scheduleId)) {
+                return;
+            }
+            synchronized (lock) {
+                Map<Long, Boolean> scheduleChanges = changes.computeIfAbsent(scheduleId, id -> new HashMap<>());
+                checkedUserIds.forEach(userId -> scheduleChanges.put(userId, true));
+                uncheckedUserIds.forEach(userId -> scheduleChanges.put(userId, false));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    /**
+     * 모아둔 변경을 스케줄별 delta 이벤트 하나로 보냅니다. 실제 전송은 전송 스레드에서 합니다.
+     */
+    @Scheduled(fixedDelayString = "${mealcheck.check-in.events.coalesce-ms:250}")
+    public void flush() {
+        dispatch(flushQueued, this::sendChanges);
+    }
+
+    /**
+     * 프록시 유휴 타임아웃을 피하고 끊어진 연결을 정리하기 위한 주석 이벤트
+     */
+    @Scheduled(fixedDelayString = "${mealcheck.check-in.events.heartbeat-ms:20000}")
+    public void heartbeat() {
+        dispatch(heartbeatQueued, this::sendHeartbeat);
+    }
+
+    void sendChanges() {
+        Map<Long, Map<Long, Boolean>> batch;
+        synchronized (lock) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            batch = changes;
+            changes = new HashMap<>();
+        }
+
+        batch.forEach((scheduleId, scheduleChanges) -> {
+            Set<SseEmitter> emitters = subscribers.get(scheduleId);
+            if (emitters == null || emitters.isEmpty()) {
+                return;
+            }
+            List<Long> checked = new ArrayList<>();
+            List<Long> unchecked = new ArrayList<>();
+            scheduleChanges.forEach((userId, isChecked) -> (isChecked ? checked : unchecked).add(userId));
+            try {
+                String data = serialize(event(scheduleId, checked, unchecked));
+                send(scheduleId, emitters, SseEmitter.event().name(DELTA_EVENT).data(data, MediaType.APPLICATION_JSON));
+            } catch (RuntimeException e) {
+                log.warn("check-in event flush failed - scheduleId={}", scheduleId, e);
+            }
+        });
+    }
+
+    void sendHeartbeat() {
+        subscribers.forEach((scheduleId, emitters) -> send(scheduleId, emitters, SseEmitter.event().comment("ping")));
+    }
+
+    int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void dispatch(AtomicBoolean queued, Runnable task) {
+        if (!queued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                queued.set(false);
+                task.run();
+            });
+        } catch (RuntimeException e) {
+            queued.set(false);
+            log.warn("check-in event dispatch rejected", e);
+        }
+    }
+
+    private void send(Long scheduleId, Set<SseEmitter> emitters, SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                remove(scheduleId, emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void remove(Long scheduleId, SseEmitter emitter) {
+        // 마지막 구독자가 나가면 스케줄 항목도 제거 (구독 추가와 같은 키 단위로 원자적으로 처리)
+        subscribers.computeIfPresent(scheduleId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    // 수령 인원 = 인덱스(커밋된 상태) + 쓰기 지연 버퍼의 반영 대기 변경
+    private MealScheduleLiveEventDTO event(Long scheduleId, List<Long> checked, List<Long> unchecked) {
+        CheckedUsers checkedUsers = checkedUserIndex.get(scheduleId);
+        Map<Long, PendingCheck> pendingChecks = checkInBuffer.pending(scheduleId);
+        if (!pendingChecks.isEmpty()) {
+            Map<Long, Boolean> pending = new HashMap<>();
+            pendingChecks.forEach((userId, pendingCheck) -> pending.put(userId, pendingCheck.isChecked()));
+            checkedUsers = checkedUsers.with(pending);
+        }
+        return new MealScheduleLiveEventDTO(scheduleId, checkedUsers.count(),
+            (long) userRosterCache.getActiveUsers().size(), checked, unchecked);
+    }
+
+    private String serialize(MealScheduleLiveEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,506 @@
+package com.mealcheck.service;
+
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.repository.MealScheduleRepository;
+import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 식사 체크 쓰기 지연(write-behind) 버퍼.
+ *
+ * mealcheck.check-in.write-behind.enabled=true 일 때만 동작하며, 점심 피크 시간대의 개별 체크/해제를
+ * DB 에 바로 쓰지 않고 스케줄별 메모리 상태에 기록한 뒤 즉시 응답합니다.
+ *
+ * - 기록 전 로컬 journal 파일에 한 줄씩 append 하므로 프로세스가 죽어도 유실되지 않습니다.
+ *   (journal 은 flush 주기마다 fsync 하므로, OS 장애 시 유실 범위는 최대 flush 주기입니다)
+ * - 백그라운드 flush 가 flush-interval-ms 마다 쌓인 변경을 스케줄별 JDBC batch 로 반영하고,
+ *   반영이 끝난 journal 세그먼트는 삭제합니다.
+ * - 기동 시 남아 있는 journal 을 재생해 반영되지 않은 변경을 복구합니다.
+ * - 조회 시 MealScheduleService 가 pending() 을 DB 결과에 덮어써서 화면에 바로 보이게 합니다.
+ *   flush 가 가져간 변경도 해당 스케줄의 트랜잭션이 커밋될 때까지 inFlight 에 남겨 pending() 에 포함합니다.
+ *
+ * 메모리 상태를 인스턴스마다 따로 가지므로 단일 인스턴스 배포에서만 사용해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInWriteBehindBuffer {
+
+    private static final String SEGMENT_PREFIX = "check-in-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String NULL_NOTE = "\\N";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final MealScheduleParticipantBatchRepository participantBatchRepository;
+    private final MealScheduleParticipantRepository participantRepository;
+    private final MealScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final UserRosterCache userRosterCache;
+    private final MealRollupService mealRollupService;
+    private final CheckedUserIndex checkedUserIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final MealCheckMetrics metrics;
+
+    @Value("${mealcheck.check-in.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mealcheck.check-in.write-behind.journal-dir:./data/check-in-journal}")
+    private String journalDir;
+
+    // scheduleId -> (userId -> 아직 DB 에 반영되지 않은 마지막 변경), lock 으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, Map<Long, PendingCheck>> pending = new HashMap<>();
+    // flush 가 가져가 DB 에 쓰는 중인 변경 (스케줄 트랜잭션 커밋 후 제거), lock 으로 보호
+    private Map<Long, Map<Long, PendingCheck>> inFlight = new HashMap<>();
+    private FileChannel journal;
+    private long segment;
+
+    // flush 는 스케줄러와 일괄 체크 요청에서 동시에 호출될 수 있으므로 한 번에 하나씩만 실행
+    // (JDBC/파일 I/O 를 감싸므로 synchronized 대신 ReentrantLock: 가상 스레드 pinning 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Path dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+
+        // 남아 있는 세그먼트를 순서대로 재생 (같은 사용자는 마지막 변경만 유지)
+        List<Long> segments = listSegments();
+        int replayed = 0;
+        for (Long number : segments) {
+            replayed += replay(segmentPath(number));
+        }
+        segment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1) + 1;
+        openSegment(segment);
+        log.info("check-in write-behind enabled - journalDir={}, replayedSegments={}, replayedEntries={}",
+            dir.toAbsolutePath(), segments.size(), replayed);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        lock.lock();
+        try {
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 체크/해제를 journal 에 기록하고 메모리 상태에 반영합니다.
+     * 반영되지 않은 변경(없으면 DB 에 반영된 상태) 대비 수령 여부가 바뀌었는지 함께 반환합니다.
+     */
+    public Recorded record(Long scheduleId, Long userId, boolean checked, String note) {
+        if (!enabled) {
+            throw new IllegalStateException("check-in write-behind is disabled");
+        }
+        // 인덱스에 없는 스케줄은 DB 조회가 필요하므로 lock 밖에서 먼저 적재
+        CheckedUsers committed = checkedUserIndex.get(scheduleId);
+        PendingCheck check = new PendingCheck(checked, note, LocalDateTime.now());
+        boolean wasChecked;
+        lock.lock();
+        try {
+            PendingCheck previous = unflushed(scheduleId, userId);
+            // 그 사이 flush 가 커밋했으면 inFlight 에서 빠지기 전에 인덱스가 갱신되므로 최신 인덱스를 다시 확인
+            wasChecked = previous != null
+                ? previous.isChecked()
+                : checkedUserIndex.getLoaded(List.of(scheduleId)).getOrDefault(scheduleId, committed).contains(userId);
+            appendToJournal(scheduleId, userId, check);
+            pending.computeIfAbsent(scheduleId, id -> new HashMap<>()).put(userId, check);
+        } catch (IOException e) {
+            throw new RuntimeException("식사 체크 기록을 저장하지 못했습니다", e);
+        } finally {
+            lock.unlock();
+        }
+        return new Recorded(check, wasChecked != checked);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 스케줄별 변경 (userId -> 변경). 비활성화 상태면 빈 맵.
+     * flush 중인 변경도 포함하며, 같은 사용자는 flush 이후 들어온 변경이 우선합니다.
+     */
+    public Map<Long, PendingCheck> pending(Long scheduleId) {
+        if (!enabled) {
+            return Map.of();
+        }
+        lock.lock();
+        try {
+            Map<Long, PendingCheck> checks = unflushed(scheduleId);
+            return checks != null ? checks : Map.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<Long, Map<Long, PendingCheck>> pending(Collection<Long> scheduleIds) {
+        if (!enabled) {
+            return Map.of();
+        }
+        Map<Long, Map<Long, PendingCheck>> result = new HashMap<>();
+        lock.lock();
+        try {
+            for (Long scheduleId : scheduleIds) {
+                Map<Long, PendingCheck> checks = unflushed(scheduleId);
+                if (checks != null && !checks.isEmpty()) {
+                    result.put(scheduleId, checks);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    // inFlight 위에 pending 을 덮어쓴 복사본 (lock 보유 중 호출)
+    private Map<Long, PendingCheck> unflushed(Long scheduleId) {
+        Map<Long, PendingCheck> flushing = inFlight.get(scheduleId);
+        Map<Long, PendingCheck> checks = pending.get(scheduleId);
+        if (flushing == null) {
+            return checks != null ? new HashMap<>(checks) : null;
+        }
+        Map<Long, PendingCheck> merged = new HashMap<>(flushing);
+        if (checks != null) {
+            merged.putAll(checks);
+        }
+        return merged;
+    }
+
+    // 한 사용자의 반영되지 않은 마지막 변경, 없으면 null (lock 보유 중 호출)
+    private PendingCheck unflushed(Long scheduleId, Long userId) {
+        PendingCheck check = pending.getOrDefault(scheduleId, Map.of()).get(userId);
+        return check != null ? check : inFlight.getOrDefault(scheduleId, Map.of()).get(userId);
+    }
+
+    /**
+     * 삭제된 스케줄의 대기 중인 변경을 버립니다.
+     * (journal 에 남은 항목은 재생되더라도 flush 시 스케줄이 없으므로 버려짐)
+     */
+    public void discard(Long scheduleId) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            pending.remove(scheduleId);
+            inFlight.remove(scheduleId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 변경을 스케줄별 트랜잭션으로 DB 에 반영합니다.
+     * 실패한 스케줄의 변경은 다시 대기 상태로 돌려놓고, 그 사이 들어온 더 최신 변경이 있으면 그것을 유지합니다.
+     * 가져간 변경은 스케줄별로 커밋(또는 재대기)될 때까지 inFlight 에 남아 조회에서 사라지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${mealcheck.check-in.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<Long, Map<Long, PendingCheck>> batch;
+            long sealedSegment;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new HashMap<>();
+                inFlight = new HashMap<>(batch);
+                // 지금까지의 journal 을 디스크에 확정하고 새 세그먼트로 교체
+                try {
+                    journal.force(false);
+                    journal.close();
+                    sealedSegment = segment;
+                    openSegment(++segment);
+                } catch (IOException e) {
+                    pending = batch;
+                    inFlight = new HashMap<>();
+                    log.error("check-in journal rotation failed", e);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            boolean flushedAll = true;
+            for (Map.Entry<Long, Map<Long, PendingCheck>> entry : batch.entrySet()) {
+                Long scheduleId = entry.getKey();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(scheduleId, entry.getValue()));
+                    // 커밋된 뒤에야 조회 대상에서 제외 (이후 조회는 DB 결과로 보임)
+                    completeInFlight(scheduleId);
+                } catch (RuntimeException e) {
+                    if (!scheduleRepository.existsById(scheduleId)) {
+                        log.warn("check-in flush - schedule {} no longer exists, dropping {} entries", scheduleId, entry.getValue().size());
+                        completeInFlight(scheduleId);
+                        continue;
+                    }
+                    log.error("check-in flush failed - scheduleId={}, entries={}", scheduleId, entry.getValue().size(), e);
+                    flushedAll = false;
+                    requeue(scheduleId, entry.getValue());
+                }
+            }
+
+            // 실패한 변경이 남아 있으면 해당 세그먼트도 남겨두고 다음 flush 에서 함께 정리
+            if (flushedAll) {
+                deleteSegmentsUpTo(sealedSegment);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Long scheduleId, Map<Long, PendingCheck> checks) {
+        MealSchedule schedule = scheduleRepository.findById(scheduleId)
+            .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId));
+
+        Map<Long, String> departments = departments(checks.keySet());
+        List<CheckEntry> toCheck = new ArrayList<>();
+        List<CheckEntry> toUncheck = new ArrayList<>();
+        checks.forEach((userId, check) -> {
+            CheckEntry entry = new CheckEntry(userId, departments.get(userId), check.getNote(), check.getAt());
+            (check.isChecked() ? toCheck : toUncheck).add(entry);
+        });
+
+        Set<Long> checked = participantBatchRepository.upsertChecked(scheduleId, toCheck);
+        Set<Long> unchecked = participantBatchRepository.markUnchecked(scheduleId, toUncheck);
+        checkedUserIndex.markChecked(scheduleId, checked);
+        checkedUserIndex.markUnchecked(scheduleId, unchecked);
+        metrics.checkedIn(schedule.getMealType(), checked.size());
+        metrics.checkInCancelled(schedule.getMealType(), unchecked.size());
+
+        // 해제는 수령 처리 때 기록한 부서의 집계를 내림 (기록이 없는 이전 데이터는 현재 부서)
+        Map<Long, String> checkedDepartments = new HashMap<>();
+        if (!unchecked.isEmpty()) {
+            for (Object[] row : participantRepository.findDepartmentsByScheduleIdAndUserIds(scheduleId, unchecked)) {
+                if (row[1] != null) {
+                    checkedDepartments.put((Long) row[0], (String) row[1]);
+                }
+            }
+        }
+        mealRollupService.applyChanges(schedule,
+            checked.stream().map(departments::get).collect(Collectors.toList()),
+            unchecked.stream()
+                .map(userId -> checkedDepartments.getOrDefault(userId, departments.get(userId)))
+                .collect(Collectors.toList()));
+    }
+
+    // userId -> 현재 부서의 집계 값 (사용자 명단 캐시에 없는 사용자만 DB 조회)
+    private Map<Long, String> departments(Collection<Long> userIds) {
+        Map<Long, String> departments = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            userRosterCache.findApprovedUser(userId).ifPresentOrElse(
+                user -> departments.put(userId, MealRollupService.normalize(user.getDepartment())),
+                () -> missing.add(userId));
+        }
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user ->
+                departments.put(user.getId(), MealRollupService.normalize(RosterUser.from(user).getDepartment())));
+        }
+        return departments;
+    }
+
+    // 대기 상태로 되돌리는 것과 inFlight 제거를 같은 lock 구간에서 처리해 조회에서 빠지는 순간이 없도록 함
+    private void requeue(Long scheduleId, Map<Long, PendingCheck> checks) {
+        lock.lock();
+        try {
+            Map<Long, PendingCheck> current = pending.computeIfAbsent(scheduleId, id -> new HashMap<>());
+            checks.forEach(current::putIfAbsent);
+            inFlight.remove(scheduleId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void completeInFlight(Long scheduleId) {
+        lock.lock();
+        try {
+            inFlight.remove(scheduleId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // journal 한 줄: 체크여부(C/U) \t scheduleId \t userId \t epochMillis \t note
+    private void appendToJournal(Long scheduleId, Long userId, PendingCheck check) throws IOException {
+        String line = (check.isChecked() ? "C" : "U") + '\t' + scheduleId + '\t' + userId + '\t'
+            + check.getAt().atZone(ZONE).toInstant().toEpochMilli() + '\t' + escape(check.getNote()) + '\n';
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+    }
+
+    private int replay(Path path) throws IOException {
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                // 기록 도중 종료되어 잘린 마지막 줄 등은 건너뜀
+                if (fields.length != 5 || !("C".equals(fields[0]) || "U".equals(fields[0]))) {
+                    log.warn("check-in journal {} - skipping malformed line", path.getFileName());
+                    continue;
+                }
+                try {
+                    PendingCheck check = new PendingCheck(
+                        "C".equals(fields[0]),
+                        unescape(fields[4]),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[3])), ZONE));
+                    pending.computeIfAbsent(Long.parseLong(fields[1]), id -> new HashMap<>())
+                        .put(Long.parseLong(fields[2]), check);
+                    count++;
+                } catch (NumberFormatException e) {
+                    log.warn("check-in journal {} - skipping malformed line", path.getFileName());
+                }
+            }
+        }
+        return count;
+    }
+
+    private void openSegment(long number) throws IOException {
+        journal = FileChannel.open(segmentPath(number),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void deleteSegmentsUpTo(long number) {
+        try {
+            for (Long existing : listSegments()) {
+                if (existing <= number) {
+                    Files.deleteIfExists(segmentPath(existing));
+                }
+            }
+        } catch (IOException e) {
+            // 남은 세그먼트는 재기동 시 다시 재생되지만, 반영이 멱등이므로 결과는 같음
+            log.warn("check-in journal cleanup failed", e);
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(journalDir))) {
+            return files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                .map(Long::parseLong)
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return Paths.get(journalDir, SEGMENT_PREFIX + String.format("%012d", number) + SEGMENT_SUFFIX);
+    }
+
+    private static String escape(String note) {
+        if (note == null) {
+            return NULL_NOTE;
+        }
+        return note.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (NULL_NOTE.equals(value)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default: sb.append(next);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 체크(checked=true) 또는 해제(checked=false)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PendingCheck {
+        private final boolean checked;
+        private final String note;
+        private final LocalDateTime at;
+    }
+
+    /**
+     * record() 결과: 기록한 변경과, 이전 상태 대비 수령 여부가 바뀌었는지 (반복 체크/해제면 false)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Recorded {
+        private final PendingCheck check;
+        private final boolean changed;
+    }
+}
@@ -0,0 +1,272 @@
+package com.mealcheck.service;
+
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스케줄별 수령(checked=true) 사용자 인덱스입니다.
+ *
+ * - 사용자 ID 마다 0 부터 촘촘한 번호(ordinal)를 부여하고, 스케줄마다 수령자 BitSet 을 보관합니다.
+ * - 처음 조회될 때 meal_schedule_participants 에서 한 번에 적재하고,
+ *   이후에는 체크/해제가 트랜잭션 커밋 이후 비트를 직접 갱신합니다.
+ * - 미수령자 목록은 활성 사용자 명단을 순서대로 돌며 수령 비트가 없는 사용자를 고릅니다 (명단 캐시 순서 유지).
+ * - 적재 쿼리 도중 같은 스케줄에 변경이 커밋되면 그 결과는 캐시하지 않고 다음 조회에서 다시 적재합니다.
+ *   적재 쿼리는 변경 횟수를 기록한 뒤 새 READ COMMITTED 트랜잭션에서 실행하므로,
+ *   호출한 트랜잭션의 REPEATABLE READ 스냅샷(기록 이전 시점)으로 만든 오래된 집합이 캐시되지 않습니다.
+ * - 보관하는 스케줄 수가 max-schedules 를 넘으면 ID 가 작은(오래된) 스케줄부터 버립니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CheckedUserIndex {
+
+    private final MealScheduleParticipantRepository participantRepository;
+    private final UserRosterCache userRosterCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mealcheck.checked-index.max-schedules:256}")
+    private int maxSchedules;
+
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final Map<Long, Integer> ordinals = new ConcurrentHashMap<>();
+    private final Map<Long, ScheduleBits> schedules = new ConcurrentHashMap<>();
+    private final AtomicReference<RosterBits> rosterBits = new AtomicReference<>();
+
+    /**
+     * 스케줄의 수령자 집합 (인덱스에 없으면 DB 에서 적재)
+     */
+    public CheckedUsers get(Long scheduleId) {
+        return get(List.of(scheduleId)).get(scheduleId);
+    }
+
+    /**
+     * 여러 스케줄의 수령자 집합. 인덱스에 없는 스케줄은 한 번의 IN 쿼리로 적재합니다.
+     */
+    public Map<Long, CheckedUsers> get(Collection<Long> scheduleIds) {
+        Map<Long, CheckedUsers> result = getLoaded(scheduleIds);
+        List<Long> missing = new ArrayList<>();
+        for (Long scheduleId : scheduleIds) {
+            if (!result.containsKey(scheduleId)) {
+                missing.add(scheduleId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            result.putAll(load(missing));
+        }
+        return result;
+    }
+
+    /**
+     * 이미 인덱스에 적재된 스케줄만 반환합니다 (DB 조회 없음).
+     */
+    public Map<Long, CheckedUsers> getLoaded(Collection<Long> scheduleIds) {
+        Map<Long, CheckedUsers> result = new HashMap<>();
+        for (Long scheduleId : scheduleIds) {
+            ScheduleBits entry = schedules.get(scheduleId);
+            if (entry != null) {
+                BitSet bits = entry.copyIfLoaded();
+                if (bits != null) {
+                    result.put(scheduleId, new CheckedUsers(bits));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 활성 사용자 중 수령하지 않은 사용자 (명단 캐시 순서 유지)
+     */
+    public List<RosterUser> uncheckedActiveUsers(CheckedUsers checked) {
+        RosterBits roster = currentRosterBits();
+        List<RosterUser> users = roster.getSource();
+        int[] userOrdinals = roster.getOrdinals();
+        List<RosterUser> result = new ArrayList<>();
+        for (int i = 0; i < userOrdinals.length; i++) {
+            if (!checked.bits.get(userOrdinals[i])) {
+                result.add(users.get(i));
+            }
+        }
+        return result;
+    }
+
+    public void markChecked(Long scheduleId, Collection<Long> userIds) {
+        afterCommit(() -> apply(scheduleId, userIds, true));
+    }
+
+    public void markUnchecked(Long scheduleId, Collection<Long> userIds) {
+        afterCommit(() -> apply(scheduleId, userIds, false));
+    }
+
+    public void evict(Long scheduleId) {
+        afterCommit(() -> schedules.remove(scheduleId));
+    }
+
+    private Map<Long, CheckedUsers> load(List<Long> scheduleIds) {
+        // 적재 전 변경 횟수를 기록해두고, 쿼리 도중 변경이 있었던 스케줄은 캐시하지 않음
+        Map<Long, ScheduleBits> entries = new HashMap<>();
+        Map<Long, Long> modCounts = new HashMap<>();
+        Map<Long, BitSet> loaded = new HashMap<>();
+        for (Long scheduleId : scheduleIds) {
+            ScheduleBits entry = schedules.computeIfAbsent(scheduleId, id -> new ScheduleBits());
+            entries.put(scheduleId, entry);
+            modCounts.put(scheduleId, entry.modCount());
+            loaded.put(scheduleId, new BitSet());
+        }
+
+        // 변경 횟수를 기록한 뒤에 스냅샷을 잡도록 별도 트랜잭션에서 조회
+        // (캐시에 없는 스케줄을 처음 조회할 때만 실행되므로 커넥션을 잠시 하나 더 쓰는 경우는 드묾)
+        TransactionTemplate loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        loadTransaction.setReadOnly(true);
+        List<Object[]> rows = loadTransaction.execute(status -> participantRepository.findCheckedUserIdsByScheduleIds(scheduleIds));
+        for (Object[] row : rows) {
+            loaded.get((Long) row[0]).set(ordinal((Long) row[1]));
+        }
+
+        Map<Long, CheckedUsers> result = new HashMap<>();
+        loaded.forEach((scheduleId, bits) -> {
+            entries.get(scheduleId).install(bits, modCounts.get(scheduleId));
+            result.put(scheduleId, new CheckedUsers((BitSet) bits.clone()));
+        });
+        evictOverflow();
+        return result;
+    }
+
+    private void apply(Long scheduleId, Collection<Long> userIds, boolean checked) {
+        ScheduleBits entry = schedules.get(scheduleId);
+        if (entry == null) {
+            return;
+        }
+        int[] userOrdinals = userIds.stream().mapToInt(this::ordinal).toArray();
+        entry.apply(userOrdinals, checked);
+    }
+
+    private void evictOverflow() {
+        int overflow = schedules.size() - maxSchedules;
+        if (overflow <= 0) {
+            return;
+        }
+        schedules.keySet().stream()
+            .sorted()
+            .limit(overflow)
+            .forEach(schedules::remove);
+    }
+
+    private int ordinal(Long userId) {
+        return ordinals.computeIfAbsent(userId, id -> nextOrdinal.getAndIncrement());
+    }
+
+    // 명단 캐시 스냅샷이 바뀐 경우에만 활성 사용자 순서대로의 ordinal 배열을 다시 만듦
+    private RosterBits currentRosterBits() {
+        List<RosterUser> activeUsers = userRosterCache.getActiveUsers();
+        RosterBits current = rosterBits.get();
+        if (current != null && current.getSource() == activeUsers) {
+            return current;
+        }
+        int[] userOrdinals = activeUsers.stream().mapToInt(user -> ordinal(user.getId())).toArray();
+        RosterBits built = new RosterBits(activeUsers, userOrdinals);
+        rosterBits.set(built);
+        return built;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에, 아니면 즉시 반영 (롤백된 변경은 반영하지 않음)
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 한 스케줄의 수령자 집합 (조회 시점의 복사본)
+     */
+    public class CheckedUsers {
+
+        private final BitSet bits;
+
+        private CheckedUsers(BitSet bits) {
+            this.bits = bits;
+        }
+
+        public boolean contains(Long userId) {
+            Integer userOrdinal = ordinals.get(userId);
+            return userOrdinal != null && bits.get(userOrdinal);
+        }
+
+        public long count() {
+            return bits.cardinality();
+        }
+
+        /**
+         * 아직 DB 에 반영되지 않은 체크/해제(userId -> checked)를 덮어쓴 새 집합
+         */
+        public CheckedUsers with(Map<Long, Boolean> changes) {
+            BitSet changed = (BitSet) bits.clone();
+            changes.forEach((userId, checked) -> changed.set(ordinal(userId), checked));
+            return new CheckedUsers(changed);
+        }
+    }
+
+    private static class ScheduleBits {
+
+        private BitSet bits;
+        private long modCount;
+
+        synchronized long modCount() {
+            return modCount;
+        }
+
+        synchronized BitSet copyIfLoaded() {
+            return bits != null ? (BitSet) bits.clone() : null;
+        }
+
+        synchronized void install(BitSet loaded, long expectedModCount) {
+            if (bits == null && modCount == expectedModCount) {
+                bits = (BitSet) loaded.clone();
+            }
+        }
+
+        synchronized void apply(int[] userOrdinals, boolean checked) {
+            modCount++;
+            if (bits != null) {
+                for (int userOrdinal : userOrdinals) {
+                    bits.set(userOrdinal, checked);
+                }
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RosterBits {
+        private final List<RosterUser> source;
+        // source 와 같은 순서의 사용자 ordinal
+        private final int[] ordinals;
+    }
+}
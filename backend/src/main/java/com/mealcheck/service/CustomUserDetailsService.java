@@ -1,24 +1,79 @@
 package com.mealcheck.service;
 
+import com.mealcheck.config.AuthenticatedUser;
 import com.mealcheck.entity.User;
 import com.mealcheck.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 사용자 인증 정보 로딩 서비스.
+ *
+ * 조회 결과는 username 기준으로 크기/TTL 제한 캐시에 보관하며,
+ * 비활성화·비밀번호 변경·삭제 시 evictUser() 로 즉시 제거합니다.
+ * 캐시 적중/미적중/제거 횟수는 Actuator 메트릭(auth.user.cache*)으로 노출됩니다.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.ttl:300000}")
+    private long cacheTtlInMs;
+
+    @Value("${security.user-cache.max-size:1000}")
+    private int cacheMaxSize;
+
+    private final Map<String, CachedUser> userCache = new ConcurrentHashMap<>();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter revokedEvictionCounter;
+    private Counter expiredEvictionCounter;
+    private Counter sizeEvictionCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        hitCounter = Counter.builder("auth.user.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("auth.user.cache").tag("result", "miss").register(meterRegistry);
+        revokedEvictionCounter = Counter.builder("auth.user.cache.evictions").tag("cause", "revoked").register(meterRegistry);
+        expiredEvictionCounter = Counter.builder("auth.user.cache.evictions").tag("cause", "expired").register(meterRegistry);
+        sizeEvictionCounter = Counter.builder("auth.user.cache.evictions").tag("cause", "size").register(meterRegistry);
+        Gauge.builder("auth.user.cache.size", userCache, Map::size).register(meterRegistry);
+    }
+
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    public AuthenticatedUser loadUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+
+        CachedUser cached = userCache.get(username);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                hitCounter.increment();
+                return cached.toAuthenticatedUser();
+            }
+            if (userCache.remove(username, cached)) {
+                expiredEvictionCounter.increment();
+            }
+        }
+        missCounter.increment();
+
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
@@ -27,15 +82,73 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("User not approved yet: " + username);
         }
 
-        // 역할에 따른 권한 설정
-        List<org.springframework.security.core.GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + user.getRole()));
+        CachedUser loaded = new CachedUser(user, now + cacheTtlInMs);
+        cache(username, loaded, now);
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                authorities
-        );
+        // 역할에 따른 권한(ROLE_xxx)은 AuthenticatedUser 에서 설정
+        // 인증 후 password 가 지워지므로 캐시 항목과 별개의 인스턴스를 반환
+        return loaded.toAuthenticatedUser();
     }
-}
 
+    /**
+     * 캐시된 사용자 정보를 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에, 아니면 즉시 제거합니다.
+     */
+    public void evictUser(String username) {
+        if (username == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(username);
+                }
+            });
+        } else {
+            evictNow(username);
+        }
+    }
+
+    private void evictNow(String username) {
+        if (userCache.remove(username) != null) {
+            revokedEvictionCounter.increment();
+        }
+    }
+
+    private void cache(String username, CachedUser entry, long now) {
+        if (userCache.size() >= cacheMaxSize) {
+            // 만료된 항목부터 정리하고, 그래도 가득 차 있으면 전부 비움
+            int before = userCache.size();
+            userCache.values().removeIf(c -> c.expiresAt <= now);
+            expiredEvictionCounter.increment(before - userCache.size());
+            if (userCache.size() >= cacheMaxSize) {
+                sizeEvictionCounter.increment(userCache.size());
+                userCache.clear();
+            }
+        }
+        userCache.put(username, entry);
+    }
+
+    private static final class CachedUser {
+        private final Long id;
+        private final String username;
+        private final String password;
+        private final String role;
+        private final boolean approved;
+        private final long expiresAt;
+
+        private CachedUser(User user, long expiresAt) {
+            this.id = user.getId();
+            this.username = user.getUsername();
+            this.password = user.getPassword();
+            this.role = user.getRole();
+            this.approved = user.getApproved();
+            this.expiresAt = expiresAt;
+        }
+
+        private AuthenticatedUser toAuthenticatedUser() {
+            return new AuthenticatedUser(id, username, password, role, approved);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mealcheck.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 스케줄 생성 시 건너뛸 공휴일 달력.
+ *
+ * - mealcheck.holidays.fixed: 매년 같은 날짜의 공휴일 (MM-dd)
+ * - mealcheck.holidays.dates: 설/추석처럼 해마다 바뀌는 공휴일, 대체공휴일, 회사 휴무일 (yyyy-MM-dd)
+ */
+@Component
+public class HolidayCalendar {
+
+    @Value("${mealcheck.holidays.fixed:}")
+    private List<String> fixed = List.of();
+
+    @Value("${mealcheck.holidays.dates:}")
+    private List<String> dates = List.of();
+
+    private Set<MonthDay> fixedHolidays = Set.of();
+    private Set<LocalDate> holidays = Set.of();
+
+    @PostConstruct
+    void parse() {
+        fixedHolidays = fixed.stream()
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(value -> MonthDay.parse("--" + value))
+            .collect(Collectors.toUnmodifiableSet());
+        holidays = dates.stream()
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(LocalDate::parse)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.contains(date) || fixedHolidays.contains(MonthDay.from(date));
+    }
+}
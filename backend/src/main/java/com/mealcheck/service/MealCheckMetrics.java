@@ -0,0 +1,55 @@
+package com.mealcheck.service;
+
+import com.mealcheck.entity.MealSchedule.MealType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업무 지표 카운터.
+ *
+ * - mealcheck.checkins / mealcheck.checkins.cancelled: 식사 타입별 실제 수령/해제 전환 건수 (중복 탭은 제외)
+ *   스케줄 ID 는 매일 늘어나 시계열이 끝없이 쌓이므로 태그로 쓰지 않음 (스케줄별 인원은 집계 테이블/통계 API 로 확인)
+ * - mealcheck.auth.logins: 로그인 결과 (result=success|failure, 실패 시 reason=예외 종류)
+ */
+@Component
+@RequiredArgsConstructor
+public class MealCheckMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void checkedIn(MealType mealType, int count) {
+        if (count > 0) {
+            mealTypeCounter("mealcheck.checkins", mealType).increment(count);
+        }
+    }
+
+    public void checkInCancelled(MealType mealType, int count) {
+        if (count > 0) {
+            mealTypeCounter("mealcheck.checkins.cancelled", mealType).increment(count);
+        }
+    }
+
+    public void loginSucceeded() {
+        Counter.builder("mealcheck.auth.logins")
+            .tag("result", "success")
+            .tag("reason", "none")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void loginFailed(Exception cause) {
+        Counter.builder("mealcheck.auth.logins")
+            .tag("result", "failure")
+            .tag("reason", cause.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Counter mealTypeCounter(String name, MealType mealType) {
+        return Counter.builder(name)
+            .tag("meal.type", mealType.name())
+            .register(meterRegistry);
+    }
+}
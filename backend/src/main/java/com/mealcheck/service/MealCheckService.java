@@ -7,6 +7,7 @@ import com.mealcheck.entity.MealCheck.MealType;
 import com.mealcheck.entity.User;
 import com.mealcheck.repository.MealCheckRepository;
 import com.mealcheck.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "mealcheck.service", histogram = true)
 public class MealCheckService {
     
     private final MealCheckRepository mealCheckRepository;
@@ -95,15 +97,23 @@ public class MealCheckService {
     }
     
     public Map<String, Object> getStatistics(LocalDate startDate, LocalDate endDate) {
-        List<MealCheck> checks = mealCheckRepository.findByMealDateBetween(startDate, endDate);
+        long total = 0;
+        long checked = 0;
+        Map<MealType, Long> byType = new HashMap<>();
         
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total", checks.size());
-        stats.put("checked", checks.stream().filter(MealCheck::getChecked).count());
+        // 엔티티를 모두 읽지 않고 (타입, 체크 여부) 별 건수만 집계
+        for (Object[] row : mealCheckRepository.countByMealTypeAndChecked(startDate, endDate)) {
+            long count = (Long) row[2];
+            total += count;
+            if (Boolean.TRUE.equals(row[1])) {
+                checked += count;
+                byType.merge((MealType) row[0], count, Long::sum);
+            }
+        }
         
-        Map<MealType, Long> byType = checks.stream()
-            .filter(MealCheck::getChecked)
-            .collect(Collectors.groupingBy(MealCheck::getMealType, Collectors.counting()));
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total", total);
+        stats.put("checked", checked);
         stats.put("byType", byType);
         
         return stats;
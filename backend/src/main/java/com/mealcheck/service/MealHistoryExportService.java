@@ -0,0 +1,170 @@
+package com.mealcheck.service;
+
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.entity.MealSchedule.MealType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 전체 식사 기록 CSV 내보내기 (급여 공제용 월간 리포트 등).
+ *
+ * MealScheduleService.streamAllMealHistory() 의 DB 커서를 그대로 따라가며
+ * 고정 크기 버퍼로 한 행씩 기록하므로, 조회 기간이 길어도 힙 사용량이 늘지 않습니다.
+ * 마지막에는 사용자별 식사 타입(아침/점심/저녁) 수령 합계를 덧붙입니다.
+ * 메모·설명 등 사용자가 입력한 값이 Excel 수식으로 실행되지 않도록 수식 시작 문자로 시작하는 값은 ' 를 앞에 붙입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MealHistoryExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter CHECKED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final MealScheduleService scheduleService;
+
+    /**
+     * checkedFilter: null(전체), true(수령), false(미수령) - parseStatus() 결과
+     */
+    public void writeCsv(LocalDate startDate, LocalDate endDate, Boolean checkedFilter, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        // Excel에서 한글이 깨지지 않도록 UTF-8 BOM을 함께 추가
+        writer.write('\uFEFF');
+        writeRow(writer, "날짜", "식사 타입", "설명", "사용자", "부서", "수령 여부", "수령 시간", "메모");
+
+        Map<Long, UserTotals> totals = new LinkedHashMap<>();
+        try {
+            scheduleService.streamAllMealHistory(startDate, endDate, record -> {
+                boolean checked = Boolean.TRUE.equals(record.getChecked());
+                if (checked) {
+                    totals.computeIfAbsent(record.getUserId(), id -> new UserTotals(record)).add(record.getMealType());
+                }
+                if (checkedFilter != null && checkedFilter != checked) {
+                    return;
+                }
+                try {
+                    writeRow(writer,
+                        record.getMealDate() != null ? record.getMealDate().toString() : "",
+                        mealTypeText(record.getMealType()),
+                        record.getDescription(),
+                        record.getUserName(),
+                        record.getUserDepartment(),
+                        checked ? "수령" : "미수령",
+                        checked && record.getCheckedAt() != null ? record.getCheckedAt().format(CHECKED_AT_FORMATTER) : "",
+                        record.getNote());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // 사용자별 수령 합계
+        writer.write("\r\n");
+        writeRow(writer, "사용자", "부서", "아침", "점심", "저녁", "합계");
+        for (UserTotals userTotals : totals.values()) {
+            writeRow(writer,
+                userTotals.userName,
+                userTotals.userDepartment,
+                String.valueOf(userTotals.count(MealType.BREAKFAST)),
+                String.valueOf(userTotals.count(MealType.LUNCH)),
+                String.valueOf(userTotals.count(MealType.DINNER)),
+                String.valueOf(userTotals.total()));
+        }
+        writer.flush();
+    }
+
+    /**
+     * status: all(전체), checked(수령), unchecked(미수령)
+     * 응답 스트리밍을 시작하기 전에 호출해 잘못된 값은 400 으로 응답하도록 합니다.
+     */
+    public Boolean parseStatus(String status) {
+        if (status == null || status.isBlank() || "all".equals(status)) {
+            return null;
+        }
+        if ("checked".equals(status)) {
+            return true;
+        }
+        if ("unchecked".equals(status)) {
+            return false;
+        }
+        throw new RuntimeException("지원하지 않는 status 값입니다: " + status);
+    }
+
+    private void writeRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            if (values[i] != null) {
+                writer.write(neutralizeFormula(values[i]).replace("\"", "\"\""));
+            }
+            writer.write('"');
+        }
+        writer.write("\r\n");
+    }
+
+    // CSV 수식 주입 방지: =, +, -, @ (및 탭/CR) 로 시작하면 텍스트로 취급되도록 ' 를 붙임
+    static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private String mealTypeText(MealType mealType) {
+        if (mealType == null) {
+            return "";
+        }
+        switch (mealType) {
+            case BREAKFAST: return "아침";
+            case LUNCH: return "점심";
+            case DINNER: return "저녁";
+            default: return mealType.name();
+        }
+    }
+
+    private static final class UserTotals {
+        private final String userName;
+        private final String userDepartment;
+        private final Map<MealType, Long> counts = new EnumMap<>(MealType.class);
+
+        private UserTotals(MealHistoryDTO record) {
+            this.userName = record.getUserName();
+            this.userDepartment = record.getUserDepartment();
+        }
+
+        private void add(MealType mealType) {
+            if (mealType != null) {
+                counts.merge(mealType, 1L, Long::sum);
+            }
+        }
+
+        private long count(MealType mealType) {
+            return counts.getOrDefault(mealType, 0L);
+        }
+
+        private long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.entity.MealDailyRollup;
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.repository.MealDailyRollupRepository;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.repository.MealScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜 · 식사 타입 · 부서별 수령 집계(meal_daily_rollup) 관리.
+ *
+ * - 식사 체크/해제 시 increment()/decrement() 로 증분 갱신
+ *   스케줄의 첫 반영 때 활성 인원이 있는 모든 부서 행을 만들어, 체크가 없는 부서도 대상 인원에 포함합니다.
+ *   해제는 수령 처리 시점에 참여 행에 기록한 부서(meal_schedule_participants.department)로 반영합니다.
+ * - rebuild() 로 기간 내 집계를 원본 참여 데이터에서 다시 계산 (매일 새벽 최근 7일 자동 재계산)
+ * - 통계 조회는 원본 참여 데이터 대신 집계 테이블만 읽음 (1년 ≈ 365일 × 식사 타입 × 부서 수)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class MealRollupService {
+
+    private static final String NO_DEPARTMENT = "";
+
+    private final MealDailyRollupRepository rollupRepository;
+    private final MealScheduleRepository scheduleRepository;
+    private final MealScheduleParticipantRepository participantRepository;
+    private final UserRosterCache userRosterCache;
+    private final DemoAccountGuard demoAccountGuard;
+
+    @Transactional
+    public void increment(MealSchedule schedule, String department) {
+        adjust(schedule, Map.of(normalize(department), 1L));
+    }
+
+    /**
+     * 여러 사용자의 체크/해제를 부서별로 모아 한 번씩 반영합니다.
+     * checkedDepartments / uncheckedDepartments 는 상태가 바뀐 사용자마다 부서를 하나씩 담습니다.
+     */
+    @Transactional
+    public void applyChanges(MealSchedule schedule, Collection<String> checkedDepartments, Collection<String> uncheckedDepartments) {
+        Map<String, Long> deltas = new TreeMap<>();
+        checkedDepartments.forEach(department -> deltas.merge(normalize(department), 1L, Long::sum));
+        uncheckedDepartments.forEach(department -> deltas.merge(normalize(department), -1L, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        if (!deltas.isEmpty()) {
+            adjust(schedule, deltas);
+        }
+    }
+
+    /**
+     * department 는 수령 처리 때 기록한 부서입니다 (기록이 없는 이전 데이터는 현재 부서).
+     */
+    @Transactional
+    public void decrement(MealSchedule schedule, String department) {
+        adjust(schedule, Map.of(normalize(department), -1L));
+    }
+
+    @Transactional
+    public void deleteSchedule(MealSchedule schedule) {
+        rollupRepository.deleteByMealDateAndMealType(schedule.getMealDate(), schedule.getMealType());
+    }
+
+    private void adjust(MealSchedule schedule, Map<String, Long> deltas) {
+        Map<String, Long> eligibleByDepartment = eligibleByDepartment();
+        String mealType = schedule.getMealType().name();
+        // 스케줄의 첫 반영: 체크가 없는 부서도 대상 인원에 들어가도록 전체 부서 행을 먼저 생성
+        // (동시에 첫 반영이 일어나도 증감 0 upsert 라 이미 반영된 값은 그대로 유지)
+        if (!rollupRepository.existsByMealDateAndMealType(schedule.getMealDate(), schedule.getMealType())) {
+            eligibleByDepartment.forEach((dept, eligible) ->
+                rollupRepository.upsertCheckedCount(schedule.getMealDate(), mealType, dept, 0, eligible));
+        }
+        deltas.forEach((dept, delta) -> rollupRepository.upsertCheckedCount(
+            schedule.getMealDate(), mealType, dept, delta, eligibleByDepartment.getOrDefault(dept, 0L)));
+    }
+
+    // 부서별 활성 인원
+    private Map<String, Long> eligibleByDepartment() {
+        return userRosterCache.getActiveUsers().stream()
+            .collect(Collectors.groupingBy(user -> normalize(user.getDepartment()), TreeMap::new, Collectors.counting()));
+    }
+
+    /**
+     * 기간 내 집계를 원본 참여 데이터에서 다시 계산합니다.
+     * 대상 인원(eligibleCount)은 현재 활성 사용자 명단 기준입니다.
+     */
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        demoAccountGuard.checkNotDemoUser();
+        rollupRepository.deleteByMealDateBetween(startDate, endDate);
+
+        List<MealSchedule> schedules = scheduleRepository.findByMealDateBetween(startDate, endDate);
+
+        Map<String, Long> eligibleByDepartment = eligibleByDepartment();
+
+        // (scheduleId, 수령 처리 시점의 부서) -> 수령 인원
+        Map<Long, Map<String, Long>> checkedBySchedule = new HashMap<>();
+        for (Object[] row : participantRepository.countCheckedByScheduleAndDepartment(startDate, endDate)) {
+            checkedBySchedule.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                .put(normalize((String) row[1]), (Long) row[2]);
+        }
+
+        List<MealDailyRollup> rollups = new ArrayList<>();
+        for (MealSchedule schedule : schedules) {
+            Map<String, Long> checked = checkedBySchedule.getOrDefault(schedule.getId(), Map.of());
+            Map<String, Long> departments = new TreeMap<>(eligibleByDepartment);
+            checked.keySet().forEach(dept -> departments.putIfAbsent(dept, 0L));
+
+            departments.forEach((dept, eligible) -> rollups.add(new MealDailyRollup(
+                null,
+                schedule.getMealDate(),
+                schedule.getMealType(),
+                dept,
+                checked.getOrDefault(dept, 0L),
+                eligible
+            )));
+        }
+        rollupRepository.saveAll(rollups);
+        log.info("meal_daily_rollup rebuilt - range={}~{}, schedules={}, rows={}",
+            startDate, endDate, schedules.size(), rollups.size());
+        return rollups.size();
+    }
+
+    /**
+     * 매일 새벽 최근 7일 집계를 다시 계산해 증분 갱신 중 누락이 있더라도 보정합니다.
+     */
+    @Scheduled(cron = "${mealcheck.rollup.rebuild-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void rebuildRecent() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(7), today);
+    }
+
+    /**
+     * 기간 내 수령 통계 (집계 테이블 기준)
+     */
+    public Map<String, Object> getStatistics(LocalDate startDate, LocalDate endDate) {
+        List<MealDailyRollup> rollups = rollupRepository.findByMealDateBetween(startDate, endDate);
+
+        long total = 0;
+        long checked = 0;
+        Map<MealType, Long> byType = new EnumMap<>(MealType.class);
+        Map<String, Long> byDepartment = new TreeMap<>();
+        for (MealDailyRollup rollup : rollups) {
+            total += rollup.getEligibleCount();
+            checked += rollup.getCheckedCount();
+            byType.merge(rollup.getMealType(), rollup.getCheckedCount(), Long::sum);
+            if (!NO_DEPARTMENT.equals(rollup.getDepartment())) {
+                byDepartment.merge(rollup.getDepartment(), rollup.getCheckedCount(), Long::sum);
+            }
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total", total);
+        stats.put("checked", checked);
+        stats.put("byType", byType);
+        stats.put("byDepartment", byDepartment);
+        return stats;
+    }
+
+    /**
+     * 집계 행의 부서 값 (부서가 없으면 "")
+     */
+    static String normalize(String department) {
+        return department != null ? department : NO_DEPARTMENT;
+    }
+}
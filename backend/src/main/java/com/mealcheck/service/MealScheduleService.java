@@ -2,64 +2,109 @@ package com.mealcheck.service;
 
 import com.mealcheck.config.DemoAccountGuard;
 import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.dto.MealHistoryPageDTO;
+import com.mealcheck.dto.MealScheduleBatchCheckRequest;
+import com.mealcheck.dto.MealScheduleBatchCheckResultDTO;
 import com.mealcheck.dto.MealScheduleDTO;
 import com.mealcheck.dto.MealScheduleParticipantDTO;
+import com.mealcheck.dto.MealScheduleRecurrenceRequest;
+import com.mealcheck.dto.MealScheduleRecurrenceResultDTO;
 import com.mealcheck.entity.MealSchedule;
 import com.mealcheck.entity.MealScheduleParticipant;
 import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
 import com.mealcheck.repository.MealScheduleParticipantRepository;
 import com.mealcheck.repository.MealScheduleRepository;
 import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.CheckInWriteBehindBuffer.PendingCheck;
+import com.mealcheck.service.CheckInWriteBehindBuffer.Recorded;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
+@Timed(value = "mealcheck.service", histogram = true)
 public class MealScheduleService {
     
+    // 전체 식사 기록 페이지 최대 크기
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    // 기간 조건이 없을 때 사용하는 조회 범위
+    private static final LocalDate MIN_MEAL_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_MEAL_DATE = LocalDate.of(9999, 12, 31);
+    // 일괄 체크 최대 인원
+    private static final int MAX_BATCH_CHECK_SIZE = 500;
+    // 반복 스케줄 생성 최대 기간 (일)
+    private static final int MAX_RECURRENCE_DAYS = 366;
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    
     private final MealScheduleRepository scheduleRepository;
     private final MealScheduleParticipantRepository participantRepository;
     private final UserRepository userRepository;
     private final DemoAccountGuard demoAccountGuard;
+    private final UserRosterCache userRosterCache;
+    private final MealRollupService mealRollupService;
+    private final MealScheduleParticipantBatchRepository participantBatchRepository;
+    private final CheckInWriteBehindBuffer checkInBuffer;
+    private final CheckedUserIndex checkedUserIndex;
+    private final CheckInEventHub checkInEventHub;
+    private final MealCheckMetrics metrics;
+    private final HolidayCalendar holidayCalendar;
     
     public List<MealScheduleDTO> getAllSchedules() {
-        return scheduleRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(scheduleRepository.findAll(), null);
     }
     
     public List<MealScheduleDTO> getActiveSchedules() {
-        return scheduleRepository.findByActiveTrue().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(scheduleRepository.findByActiveTrue(), null);
     }
     
     public List<MealScheduleDTO> getUpcomingSchedules() {
-        return scheduleRepository.findByMealDateGreaterThanEqualOrderByMealDateAsc(LocalDate.now()).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(scheduleRepository.findByMealDateGreaterThanEqualOrderByMealDateAsc(LocalDate.now()), null);
     }
     
     public List<MealScheduleDTO> getSchedulesByDate(LocalDate date) {
-        return scheduleRepository.findByMealDate(date).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(scheduleRepository.findByMealDate(date), null);
     }
     
     public List<MealScheduleDTO> getSchedulesByDate(LocalDate date, Long userId) {
-        return scheduleRepository.findByMealDate(date).stream()
-            .map(schedule -> convertToDTO(schedule, userId))
-            .collect(Collectors.toList());
+        List<MealSchedule> schedules = scheduleRepository.findByMealDate(date);
+        // 식사 체크 화면에서 반복 조회되므로, 해당 날짜의 스케줄은 수령자 인덱스에 적재해 둠
+        if (!schedules.isEmpty()) {
+            checkedUserIndex.get(schedules.stream().map(MealSchedule::getId).collect(Collectors.toList()));
+        }
+        return convertToDTOs(schedules, userId);
     }
     
     public MealScheduleDTO getScheduleById(Long id) {
@@ -96,6 +141,71 @@ public class MealScheduleService {
         return convertToDTO(saved);
     }
     
+    /**
+     * 기간 내 요일 × 식사 타입 조합의 스케줄을 한 번에 생성합니다.
+     * 기존 스케줄은 기간 조회 한 번으로 확인해 건너뛰고, 새 스케줄은 한 트랜잭션에서 batch INSERT 합니다.
+     */
+    @Transactional
+    public MealScheduleRecurrenceResultDTO createRecurringSchedules(MealScheduleRecurrenceRequest request, Long userId) {
+        demoAccountGuard.checkNotDemoUser();
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("종료 날짜는 시작 날짜 이후여야 합니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RECURRENCE_DAYS) {
+            throw new RuntimeException("한 번에 생성할 수 있는 기간은 최대 " + MAX_RECURRENCE_DAYS + "일입니다");
+        }
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        
+        Set<DayOfWeek> daysOfWeek = request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()
+            ? WEEKDAYS : request.getDaysOfWeek();
+        boolean skipHolidays = !Boolean.FALSE.equals(request.getSkipHolidays());
+        List<MealSchedule.MealType> mealTypes = request.getMealTypes().stream().sorted().collect(Collectors.toList());
+        
+        // 기간 내 기존 스케줄 (날짜·식사 타입) 을 한 번에 조회
+        Set<String> existing = scheduleRepository.findByMealDateBetween(startDate, endDate).stream()
+            .map(schedule -> scheduleKey(schedule.getMealDate(), schedule.getMealType()))
+            .collect(Collectors.toSet());
+        
+        List<MealSchedule> newSchedules = new ArrayList<>();
+        List<LocalDate> skippedHolidays = new ArrayList<>();
+        int skippedExisting = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!daysOfWeek.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            if (skipHolidays && holidayCalendar.isHoliday(date)) {
+                skippedHolidays.add(date);
+                continue;
+            }
+            for (MealSchedule.MealType mealType : mealTypes) {
+                if (existing.contains(scheduleKey(date, mealType))) {
+                    skippedExisting++;
+                    continue;
+                }
+                MealSchedule schedule = new MealSchedule();
+                schedule.setMealDate(date);
+                schedule.setMealType(mealType);
+                schedule.setDescription(request.getDescription());
+                schedule.setActive(true);
+                schedule.setCreatedBy(user);
+                newSchedules.add(schedule);
+            }
+        }
+        
+        // ID 를 미리 할당받으므로 INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송됨
+        List<MealSchedule> saved = scheduleRepository.saveAll(newSchedules);
+        log.info("createRecurringSchedules - range={}~{}, created={}, skippedExisting={}, skippedHolidays={}",
+            startDate, endDate, saved.size(), skippedExisting, skippedHolidays.size());
+        return new MealScheduleRecurrenceResultDTO(convertToDTOs(saved, null), skippedExisting, skippedHolidays);
+    }
+    
+    private static String scheduleKey(LocalDate mealDate, MealSchedule.MealType mealType) {
+        return mealDate + ":" + mealType;
+    }
+    
     @Transactional
     public MealScheduleDTO updateSchedule(Long id, MealScheduleDTO dto) {
         demoAccountGuard.checkNotDemoUser();
@@ -114,26 +224,73 @@ public class MealScheduleService {
     @Transactional
     public void deleteSchedule(Long id) {
         demoAccountGuard.checkNotDemoUser();
-        if (!scheduleRepository.existsById(id)) {
-            throw new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + id);
-        }
-        // 참여자 정보도 함께 삭제
+        MealSchedule schedule = scheduleRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + id));
+        // 참여자 정보와 집계도 함께 삭제
         participantRepository.deleteAll(participantRepository.findByScheduleId(id));
-        scheduleRepository.deleteById(id);
+        mealRollupService.deleteSchedule(schedule);
+        checkInBuffer.discard(id);
+        checkedUserIndex.evict(id);
+        scheduleRepository.delete(schedule);
     }
     
     // 참여자 관련 메서드
+    /**
+     * 스케줄 실시간 수령 현황 피드를 구독합니다 (SSE).
+     */
+    public SseEmitter subscribeCheckInEvents(Long scheduleId) {
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId);
+        }
+        return checkInEventHub.subscribe(scheduleId);
+    }
+    
     public List<MealScheduleParticipantDTO> getParticipantsBySchedule(Long scheduleId) {
-        return participantRepository.findByScheduleId(scheduleId).stream()
-            .map(this::convertParticipantToDTO)
-            .collect(Collectors.toList());
+        return withPending(scheduleId, participantRepository.findParticipantDTOsByScheduleId(scheduleId));
     }
     
     public List<MealScheduleParticipantDTO> getCheckedParticipants(Long scheduleId) {
-        return participantRepository.findByScheduleIdAndCheckedTrue(scheduleId).stream()
-            .map(this::convertParticipantToDTO)
+        Map<Long, PendingCheck> pendingChecks = checkInBuffer.pending(scheduleId);
+        if (pendingChecks.isEmpty()) {
+            return participantRepository.findCheckedParticipantDTOsByScheduleId(scheduleId);
+        }
+        return withPending(scheduleId, participantRepository.findParticipantDTOsByScheduleId(scheduleId)).stream()
+            .filter(dto -> Boolean.TRUE.equals(dto.getChecked()))
             .collect(Collectors.toList());
     }
+    
+    /**
+     * 쓰기 지연 버퍼에 남아 있는 체크/해제를 DB 참여 정보 위에 덮어씁니다.
+     * 아직 행이 없는 사용자의 체크는 명단 캐시 정보로 DTO 를 만듭니다.
+     */
+    private List<MealScheduleParticipantDTO> withPending(Long scheduleId, List<MealScheduleParticipantDTO> participants) {
+        Map<Long, MealScheduleParticipantDTO> byUserId = new LinkedHashMap<>();
+        for (MealScheduleParticipantDTO participant : participants) {
+            byUserId.put(participant.getUserId(), participant);
+        }
+        checkInBuffer.pending(scheduleId).forEach((userId, pendingCheck) -> {
+            MealScheduleParticipantDTO dto = byUserId.get(userId);
+            if (dto == null) {
+                if (!pendingCheck.isChecked()) {
+                    return;
+                }
+                RosterUser user = findParticipantUser(userId);
+                dto = new MealScheduleParticipantDTO();
+                dto.setScheduleId(scheduleId);
+                dto.setUserId(userId);
+                dto.setUserName(user.getName());
+                dto.setUserDepartment(user.getDepartment());
+                dto.setCreatedAt(pendingCheck.getAt());
+                dto.setNote(pendingCheck.getNote());
+                byUserId.put(userId, dto);
+            } else if (pendingCheck.isChecked()) {
+                dto.setNote(pendingCheck.getNote());
+            }
+            dto.setChecked(pendingCheck.isChecked());
+            dto.setUpdatedAt(pendingCheck.getAt());
+        });
+        return new ArrayList<>(byUserId.values());
+    }
 
     /**
      * 해당 스케줄에서 아직 식사를 수령하지 않은(checked 가 false 이거나,
@@ -141,97 +298,307 @@ public class MealScheduleService {
      */
     public List<MealScheduleParticipantDTO> getUncheckedParticipants(Long scheduleId) {
         // 스케줄 존재 여부 검증
-        MealSchedule schedule = scheduleRepository.findById(scheduleId)
-            .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId));
-
-        // 활성/승인 사용자 전체
-        List<User> activeUsers = userRepository.findByApprovedTrue().stream()
-            .filter(User::getActive)
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
-            .collect(Collectors.toList());
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId);
+        }
 
-        // 해당 스케줄에 대한 기존 참여 정보 맵 (userId -> participant)
-        Map<Long, MealScheduleParticipant> participantMap = participantRepository.findByScheduleId(schedule.getId()).stream()
-            .collect(Collectors.toMap(p -> p.getUser().getId(), p -> p));
+        // 수령자 BitSet (메모리 인덱스) + 쓰기 지연 버퍼에 남아 있는 체크/해제
+        CheckedUsers checked = checkedUserIndex.get(scheduleId);
+        Map<Long, PendingCheck> pendingChecks = checkInBuffer.pending(scheduleId);
+        if (!pendingChecks.isEmpty()) {
+            Map<Long, Boolean> changes = new HashMap<>();
+            pendingChecks.forEach((userId, pendingCheck) -> changes.put(userId, pendingCheck.isChecked()));
+            checked = checked.with(changes);
+        }
 
+        // 활성 사용자 중 수령 비트가 없는 사용자 (참여 기록이 없거나 checked=false), 명단 순서
         List<MealScheduleParticipantDTO> result = new ArrayList<>();
-
-        for (User user : activeUsers) {
-            MealScheduleParticipant participant = participantMap.get(user.getId());
-
-            // 이미 수령(checked=true) 한 사용자는 제외
-            if (participant != null && Boolean.TRUE.equals(participant.getChecked())) {
-                continue;
-            }
-
-            if (participant != null) {
-                // 참여 기록은 있으나 미수령(checked=false) 인 경우
-                result.add(convertParticipantToDTO(participant));
-            } else {
-                // 참여 기록 자체가 없는 사용자도 미수령자로 간주
-                MealScheduleParticipantDTO dto = new MealScheduleParticipantDTO();
-                dto.setId(null);
-                dto.setScheduleId(schedule.getId());
-                dto.setUserId(user.getId());
-                dto.setUserName(user.getName());
-                dto.setUserDepartment(user.getDepartment());
-                dto.setChecked(false);
-                dto.setNote(null);
-                dto.setCreatedAt(null);
-                dto.setUpdatedAt(null);
-                result.add(dto);
-            }
+        for (RosterUser user : checkedUserIndex.uncheckedActiveUsers(checked)) {
+            MealScheduleParticipantDTO dto = new MealScheduleParticipantDTO();
+            dto.setScheduleId(scheduleId);
+            dto.setUserId(user.getId());
+            dto.setUserName(user.getName());
+            dto.setUserDepartment(user.getDepartment());
+            dto.setChecked(false);
+            result.add(dto);
         }
 
         return result;
     }
     
+    /**
+     * 식사 체크 (점심 시간대 동시 요청 대응).
+     *
+     * 참여 행 조회 후 저장하는 대신 유니크 키(schedule_id, user_id) 기준 원자적 쓰기로 처리하므로
+     * 같은 사용자의 동시/반복 요청이 제약 조건 위반 없이 모두 성공하며 결과도 같습니다.
+     * - 행이 없으면 수령 상태로 생성 (INSERT IGNORE)
+     * - 미수령 행이면 수령으로 전환 (조건부 UPDATE)
+     * - 이미 수령 상태면 메모만 갱신
+     * 실제로 미수령 -> 수령 전환이 일어난 경우에만 일별 집계를 증가시킵니다.
+     */
     @Transactional
     public MealScheduleParticipantDTO checkParticipant(Long scheduleId, Long userId, String note) {
         demoAccountGuard.checkNotDemoUser();
         MealSchedule schedule = scheduleRepository.findById(scheduleId)
             .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId));
         
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        RosterUser user = findParticipantUser(userId);
         
         // 활성 사용자만 체크 가능
-        if (!user.getActive()) {
+        if (!user.isActive()) {
             throw new RuntimeException("비활성 사용자는 식사 체크를 할 수 없습니다.");
         }
         
-        MealScheduleParticipant participant = participantRepository
-            .findByScheduleIdAndUserId(scheduleId, userId)
-            .orElse(new MealScheduleParticipant());
+        // 쓰기 지연 모드: journal + 메모리에 기록하고 바로 응답 (DB 반영은 백그라운드 flush)
+        if (checkInBuffer.isEnabled()) {
+            Recorded recorded = checkInBuffer.record(scheduleId, userId, true, note);
+            // 반복 체크는 수령 상태가 그대로이므로 구독자에게 알리지 않음
+            if (recorded.isChanged()) {
+                checkInEventHub.publish(scheduleId, List.of(userId), List.of());
+            }
+            MealScheduleParticipantDTO dto = new MealScheduleParticipantDTO();
+            dto.setScheduleId(scheduleId);
+            dto.setUserId(userId);
+            dto.setUserName(user.getName());
+            dto.setUserDepartment(user.getDepartment());
+            dto.setChecked(true);
+            dto.setNote(note);
+            dto.setUpdatedAt(recorded.getCheck().getAt());
+            return dto;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        String department = MealRollupService.normalize(user.getDepartment());
+        boolean newlyChecked = participantRepository.insertCheckedIfAbsent(scheduleId, userId, department, note, now) == 1
+            || participantRepository.markChecked(scheduleId, userId, department, note, now) == 1;
         
-        if (participant.getId() == null) {
-            participant.setSchedule(schedule);
-            participant.setUser(user);
+        if (newlyChecked) {
+            mealRollupService.increment(schedule, user.getDepartment());
+            checkedUserIndex.markChecked(scheduleId, List.of(userId));
+            checkInEventHub.publish(scheduleId, List.of(userId), List.of());
+            metrics.checkedIn(schedule.getMealType(), 1);
+        } else {
+            participantRepository.updateNote(scheduleId, userId, note);
         }
         
-        participant.setChecked(true);
-        participant.setNote(note);
+        MealScheduleParticipant participant = participantRepository.findByScheduleIdAndUserId(scheduleId, userId)
+            .orElseThrow(() -> new RuntimeException("참여 정보를 찾을 수 없습니다"));
         
-        MealScheduleParticipant saved = participantRepository.save(participant);
-        return convertParticipantToDTO(saved);
+        MealScheduleParticipantDTO dto = new MealScheduleParticipantDTO();
+        dto.setId(participant.getId());
+        dto.setScheduleId(scheduleId);
+        dto.setUserId(userId);
+        dto.setUserName(user.getName());
+        dto.setUserDepartment(user.getDepartment());
+        dto.setChecked(participant.getChecked());
+        dto.setNote(participant.getNote());
+        dto.setCreatedAt(participant.getCreatedAt());
+        dto.setUpdatedAt(participant.getUpdatedAt());
+        return dto;
     }
     
     @Transactional
     public void uncheckParticipant(Long scheduleId, Long userId) {
         demoAccountGuard.checkNotDemoUser();
-        MealScheduleParticipant participant = participantRepository
-            .findByScheduleIdAndUserId(scheduleId, userId)
-            .orElseThrow(() -> new RuntimeException("참여 정보를 찾을 수 없습니다"));
         
-        participant.setChecked(false);
-        participantRepository.save(participant);
+        if (checkInBuffer.isEnabled()) {
+            if (!checkInBuffer.pending(scheduleId).containsKey(userId)
+                    && !participantRepository.existsByScheduleIdAndUserId(scheduleId, userId)) {
+                throw new RuntimeException("참여 정보를 찾을 수 없습니다");
+            }
+            if (checkInBuffer.record(scheduleId, userId, false, null).isChanged()) {
+                checkInEventHub.publish(scheduleId, List.of(), List.of(userId));
+            }
+            return;
+        }
+        
+        // 수령 -> 미수령 전환이 실제로 일어난 경우에만 집계 감소 (동시 해제 요청도 한 번만 반영)
+        if (participantRepository.markUnchecked(scheduleId, userId, LocalDateTime.now()) == 1) {
+            MealSchedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId));
+            // 수령 처리 때 기록한 부서의 집계를 내림 (그 사이 부서를 옮겼더라도 같은 행)
+            String department = participantRepository.findDepartmentByScheduleIdAndUserId(scheduleId, userId)
+                .orElseGet(() -> findParticipantUser(userId).getDepartment());
+            mealRollupService.decrement(schedule, department);
+            checkedUserIndex.markUnchecked(scheduleId, List.of(userId));
+            checkInEventHub.publish(scheduleId, List.of(), List.of(userId));
+            metrics.checkInCancelled(schedule.getMealType(), 1);
+        } else if (!participantRepository.existsByScheduleIdAndUserId(scheduleId, userId)) {
+            throw new RuntimeException("참여 정보를 찾을 수 없습니다");
+        }
+    }
+    
+    /**
+     * 여러 사용자 일괄 식사 체크 (배식대에서 대기열 전체를 한 번에 처리).
+     *
+     * 스케줄 조회 1회, 사용자 명단 캐시(없는 사용자만 DB IN 조회 1회) 후
+     * 생성/전환/메모 갱신을 각각 JDBC batch 한 번씩으로 기록합니다.
+     * 비활성·존재하지 않는 사용자 등은 해당 항목만 실패로 반환하고 나머지는 계속 처리합니다.
+     */
+    @Transactional
+    public List<MealScheduleBatchCheckResultDTO> checkParticipants(Long scheduleId, List<MealScheduleBatchCheckRequest.Entry> entries) {
+        demoAccountGuard.checkNotDemoUser();
+        if (entries.size() > MAX_BATCH_CHECK_SIZE) {
+            throw new RuntimeException("한 번에 체크할 수 있는 인원은 최대 " + MAX_BATCH_CHECK_SIZE + "명입니다");
+        }
+        MealSchedule schedule = scheduleRepository.findById(scheduleId)
+            .orElseThrow(() -> new RuntimeException("식사 스케줄을 찾을 수 없습니다: " + scheduleId));
+        
+        Set<Long> userIds = entries.stream()
+            .map(MealScheduleBatchCheckRequest.Entry::getUserId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        // 사용자 명단 캐시에 없는 사용자만 한 번에 DB 조회
+        Map<Long, RosterUser> users = new HashMap<>();
+        List<Long> missingUserIds = new ArrayList<>();
+        for (Long userId : userIds) {
+            userRosterCache.findApprovedUser(userId)
+                .ifPresentOrElse(user -> users.put(userId, user), () -> missingUserIds.add(userId));
+        }
+        if (!missingUserIds.isEmpty()) {
+            userRepository.findAllById(missingUserIds)
+                .forEach(user -> users.put(user.getId(), RosterUser.from(user)));
+        }
+        
+        List<MealScheduleBatchCheckResultDTO> results = new ArrayList<>();
+        Map<Long, MealScheduleBatchCheckResultDTO> resultsByUser = new HashMap<>();
+        List<CheckEntry> toCheck = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (MealScheduleBatchCheckRequest.Entry entry : entries) {
+            Long userId = entry.getUserId();
+            RosterUser user = userId != null ? users.get(userId) : null;
+            MealScheduleBatchCheckResultDTO result = new MealScheduleBatchCheckResultDTO(
+                userId, user != null ? user.getName() : null, false, false, null);
+            results.add(result);
+            
+            if (userId == null) {
+                result.setMessage("사용자 ID는 필수입니다");
+            } else if (resultsByUser.containsKey(userId)) {
+                result.setMessage("요청에 중복된 사용자입니다");
+            } else if (user == null) {
+                result.setMessage("사용자를 찾을 수 없습니다: " + userId);
+            } else if (!user.isActive()) {
+                result.setMessage("비활성 사용자는 식사 체크를 할 수 없습니다.");
+            } else {
+                result.setSuccess(true);
+                resultsByUser.put(userId, result);
+                toCheck.add(new CheckEntry(userId, MealRollupService.normalize(user.getDepartment()), entry.getNote(), now));
+            }
+        }
+        
+        // 쓰기 지연 모드에서 아직 반영되지 않은 개별 체크/해제가 이번 일괄 기록을 덮어쓰지 않도록 먼저 반영
+        checkInBuffer.flush();
+        
+        Set<Long> newlyChecked = participantBatchRepository.upsertChecked(scheduleId, toCheck);
+        checkedUserIndex.markChecked(scheduleId, newlyChecked);
+        checkInEventHub.publish(scheduleId, newlyChecked, List.of());
+        metrics.checkedIn(schedule.getMealType(), newlyChecked.size());
+        resultsByUser.forEach((userId, result) -> result.setAlreadyChecked(!newlyChecked.contains(userId)));
+        
+        mealRollupService.applyChanges(schedule,
+            newlyChecked.stream().map(userId -> users.get(userId).getDepartment()).collect(Collectors.toList()),
+            List.of());
+        
+        log.info("checkParticipants - scheduleId={}, requested={}, newlyChecked={}, failed={}",
+            scheduleId, entries.size(), newlyChecked.size(), entries.size() - resultsByUser.size());
+        return results;
+    }
+    
+    /**
+     * 식사 체크 대상 사용자 조회.
+     * 사용자 명단 캐시에서 먼저 찾고, 없으면(미승인/데모 계정 등) DB 에서 조회합니다.
+     */
+    private RosterUser findParticipantUser(Long userId) {
+        return userRosterCache.findApprovedUser(userId)
+            .orElseGet(() -> RosterUser.from(userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId))));
     }
     
     private MealScheduleDTO convertToDTO(MealSchedule schedule) {
-        return convertToDTO(schedule, null);
+        return convertToDTOs(List.of(schedule), null).get(0);
     }
     
-    private MealScheduleDTO convertToDTO(MealSchedule schedule, Long userId) {
+    /**
+     * 스케줄 목록을 DTO 로 변환합니다.
+     * 수령자 인덱스(CheckedUserIndex)에 적재된 스케줄은 쿼리 없이 채우고, 나머지 스케줄은 개수와 관계없이
+     * 수령 인원 GROUP BY 1회, (userId 가 있으면) 현재 사용자 체크 여부 IN 조회 1회로 통계를 채웁니다.
+     */
+    private List<MealScheduleDTO> convertToDTOs(List<MealSchedule> schedules, Long userId) {
+        if (schedules.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> scheduleIds = schedules.stream()
+            .map(MealSchedule::getId)
+            .collect(Collectors.toList());
+        
+        // 활성 사용자 수 (데모 계정 제외, 메모리 캐시)
+        long totalActiveUsers = userRosterCache.getActiveUsers().size();
+        
+        // 수령자 인덱스에 적재된 스케줄은 메모리에서, 나머지만 DB 에서 집계
+        Map<Long, CheckedUsers> indexed = checkedUserIndex.getLoaded(scheduleIds);
+        List<Long> uncachedIds = scheduleIds.stream()
+            .filter(id -> !indexed.containsKey(id))
+            .collect(Collectors.toList());
+        
+        // 스케줄별 수령 인원 (scheduleId -> count)
+        Map<Long, Long> checkedCounts = new HashMap<>();
+        indexed.forEach((scheduleId, checked) -> checkedCounts.put(scheduleId, checked.count()));
+        if (!uncachedIds.isEmpty()) {
+            for (Object[] row : participantRepository.countCheckedByScheduleIds(uncachedIds)) {
+                checkedCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        
+        // 현재 사용자가 수령 체크한 스케줄 ID
+        Set<Long> currentUserCheckedIds = new HashSet<>();
+        if (userId != null) {
+            indexed.forEach((scheduleId, checked) -> {
+                if (checked.contains(userId)) {
+                    currentUserCheckedIds.add(scheduleId);
+                }
+            });
+            if (!uncachedIds.isEmpty()) {
+                currentUserCheckedIds.addAll(participantRepository.findCheckedScheduleIdsByUserId(userId, uncachedIds));
+            }
+        }
+        
+        // 쓰기 지연 모드: 아직 DB 에 반영되지 않은 체크/해제를 덮어씀
+        Map<Long, Map<Long, PendingCheck>> pendingBySchedule = checkInBuffer.pending(scheduleIds);
+        pendingBySchedule.forEach((scheduleId, pendingChecks) -> {
+            CheckedUsers persisted = indexed.get(scheduleId);
+            if (persisted == null) {
+                persisted = checkedUserIndex.get(scheduleId);
+            }
+            long delta = 0;
+            for (Map.Entry<Long, PendingCheck> entry : pendingChecks.entrySet()) {
+                boolean wasChecked = persisted.contains(entry.getKey());
+                if (entry.getValue().isChecked() != wasChecked) {
+                    delta += entry.getValue().isChecked() ? 1 : -1;
+                }
+            }
+            checkedCounts.merge(scheduleId, delta, Long::sum);
+        });
+        
+        List<MealScheduleDTO> result = new ArrayList<>(schedules.size());
+        for (MealSchedule schedule : schedules) {
+            MealScheduleDTO dto = toScheduleDTO(schedule);
+            dto.setTotalParticipants(totalActiveUsers);
+            dto.setCheckedCount(checkedCounts.getOrDefault(schedule.getId(), 0L));
+            if (userId != null) {
+                PendingCheck pendingCheck = pendingBySchedule.getOrDefault(schedule.getId(), Map.of()).get(userId);
+                dto.setCurrentUserChecked(pendingCheck != null
+                    ? pendingCheck.isChecked()
+                    : currentUserCheckedIds.contains(schedule.getId()));
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+    
+    private MealScheduleDTO toScheduleDTO(MealSchedule schedule) {
         MealScheduleDTO dto = new MealScheduleDTO();
         dto.setId(schedule.getId());
         // DB에 저장된 날짜가 하루 앞당겨져 있는 환경을 고려해,
@@ -243,38 +610,6 @@ public class MealScheduleService {
         dto.setCreatedById(schedule.getCreatedBy().getId());
         dto.setCreatedByName(schedule.getCreatedBy().getName());
         dto.setCreatedAt(schedule.getCreatedAt());
-        
-        // 통계 추가
-        long totalActiveUsers = userRepository.findByApprovedTrue().stream()
-            .filter(User::getActive)
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
-            .count(); // 활성 사용자 수 (데모 계정 제외)
-        long checkedCount = participantRepository.countByScheduleIdAndCheckedTrue(schedule.getId());
-        dto.setTotalParticipants(totalActiveUsers);
-        dto.setCheckedCount(checkedCount);
-        
-        // 현재 사용자의 체크 여부 추가
-        if (userId != null) {
-            boolean isChecked = participantRepository.findByScheduleIdAndUserId(schedule.getId(), userId)
-                .map(MealScheduleParticipant::getChecked)
-                .orElse(false);
-            dto.setCurrentUserChecked(isChecked);
-        }
-        
-        return dto;
-    }
-    
-    private MealScheduleParticipantDTO convertParticipantToDTO(MealScheduleParticipant participant) {
-        MealScheduleParticipantDTO dto = new MealScheduleParticipantDTO();
-        dto.setId(participant.getId());
-        dto.setScheduleId(participant.getSchedule().getId());
-        dto.setUserId(participant.getUser().getId());
-        dto.setUserName(participant.getUser().getName());
-        dto.setUserDepartment(participant.getUser().getDepartment());
-        dto.setChecked(participant.getChecked());
-        dto.setNote(participant.getNote());
-        dto.setCreatedAt(participant.getCreatedAt());
-        dto.setUpdatedAt(participant.getUpdatedAt());
         return dto;
     }
     
@@ -283,15 +618,10 @@ public class MealScheduleService {
         List<MealScheduleParticipant> participants;
         
         if (startDate != null && endDate != null) {
-            // 특정 기간의 참여 기록 조회
-            participants = participantRepository.findByUserId(userId).stream()
-                .filter(p -> {
-                    LocalDate mealDate = p.getSchedule().getMealDate();
-                    return !mealDate.isBefore(startDate) && !mealDate.isAfter(endDate);
-                })
-                .collect(Collectors.toList());
+            // 특정 기간의 참여 기록 조회 (기간 조건은 DB 에서 처리)
+            participants = participantRepository.findHistoryByUserIdAndMealDateBetween(userId, startDate, endDate);
         } else {
-            participants = participantRepository.findByUserId(userId);
+            participants = participantRepository.findHistoryByUserId(userId);
         }
         
         return participants.stream()
@@ -300,30 +630,35 @@ public class MealScheduleService {
     }
     
     public List<MealHistoryDTO> getAllMealHistory(LocalDate startDate, LocalDate endDate) {
-        // 조회 기간에 해당하는 스케줄 목록 조회
+        // 조회 기간에 해당하는 스케줄 목록과 참여 정보 조회 (각 1회)
         List<MealSchedule> schedules;
+        List<MealScheduleParticipant> participants;
         if (startDate != null && endDate != null) {
-            schedules = scheduleRepository.findAll().stream()
-                .filter(s -> !s.getMealDate().isBefore(startDate) && !s.getMealDate().isAfter(endDate))
-                .collect(Collectors.toList());
+            schedules = scheduleRepository.findByMealDateBetween(startDate, endDate);
+            participants = participantRepository.findHistoryByMealDateBetween(startDate, endDate);
         } else {
             schedules = scheduleRepository.findAll();
+            participants = participantRepository.findAllHistory();
         }
 
-        // 활성/승인 사용자 전체 (각 스케줄마다 동일 기준 사용)
-        List<User> activeUsers = userRepository.findByApprovedTrue().stream()
-            .filter(User::getActive)
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
-            .collect(Collectors.toList());
+        // 스케줄별 기존 참여 정보 (scheduleId -> (userId -> participant))
+        Map<Long, Map<Long, MealScheduleParticipant>> participantsBySchedule = participants.stream()
+            .collect(Collectors.groupingBy(
+                p -> p.getSchedule().getId(),
+                Collectors.toMap(p -> p.getUser().getId(), p -> p)
+            ));
+
+        // 활성/승인 사용자 전체 (각 스케줄마다 동일 기준 사용, 메모리 캐시)
+        List<RosterUser> activeUsers = userRosterCache.getActiveUsers();
 
         List<MealHistoryDTO> historyList = new ArrayList<>();
 
         for (MealSchedule schedule : schedules) {
             // 해당 스케줄의 기존 참여 정보 (userId -> participant)
-            Map<Long, MealScheduleParticipant> participantMap = participantRepository.findByScheduleId(schedule.getId()).stream()
-                .collect(Collectors.toMap(p -> p.getUser().getId(), p -> p));
+            Map<Long, MealScheduleParticipant> participantMap =
+                participantsBySchedule.getOrDefault(schedule.getId(), Collections.emptyMap());
 
-            for (User user : activeUsers) {
+            for (RosterUser user : activeUsers) {
                 MealScheduleParticipant participant = participantMap.get(user.getId());
 
                 if (participant != null) {
@@ -331,19 +666,7 @@ public class MealScheduleService {
                     historyList.add(convertToMealHistoryDTO(participant));
                 } else {
                     // 참여 정보 자체가 없는 경우도 미수령자로 간주하여 기록 생성
-                    MealHistoryDTO dto = new MealHistoryDTO();
-                    dto.setId(null);
-                    dto.setScheduleId(schedule.getId());
-                    dto.setMealDate(schedule.getMealDate() != null ? schedule.getMealDate().plusDays(1) : null);
-                    dto.setMealType(schedule.getMealType());
-                    dto.setDescription(schedule.getDescription());
-                    dto.setUserId(user.getId());
-                    dto.setUserName(user.getName());
-                    dto.setUserDepartment(user.getDepartment());
-                    dto.setChecked(false);
-                    dto.setNote(null);
-                    dto.setCheckedAt(null);
-                    historyList.add(dto);
+                    historyList.add(createUncheckedHistory(schedule, user));
                 }
             }
         }
@@ -351,6 +674,179 @@ public class MealScheduleService {
         return historyList;
     }
 
+    /**
+     * 전체 식사 기록을 (mealDate, scheduleId, userId) 순서의 키셋 페이지로 조회합니다.
+     * 한 페이지에 필요한 스케줄만 읽어 스케줄 × 사용자 조합을 만들기 때문에,
+     * 조회 기간이 길어도 페이지 크기만큼만 메모리를 사용합니다.
+     */
+    public MealHistoryPageDTO getAllMealHistoryPage(LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        LocalDate from = startDate != null ? startDate : MIN_MEAL_DATE;
+        LocalDate to = endDate != null ? endDate : MAX_MEAL_DATE;
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.parse(cursor) : null;
+
+        List<RosterUser> users = sortedActiveUsers();
+        if (users.isEmpty()) {
+            return new MealHistoryPageDTO(new ArrayList<>(), false, null);
+        }
+
+        // 다음 페이지 존재 여부까지 판단할 수 있도록 (pageSize + 1) 행을 채울 만큼의 스케줄 조회
+        int scheduleLimit = (pageSize + 1 + users.size() - 1) / users.size() + 1;
+        List<MealSchedule> schedules = scheduleRepository.findPageFrom(
+            from, to,
+            after != null ? after.getMealDate() : from,
+            after != null ? after.getScheduleId() : 0L,
+            PageRequest.of(0, scheduleLimit));
+        if (schedules.isEmpty()) {
+            return new MealHistoryPageDTO(new ArrayList<>(), false, null);
+        }
+
+        List<Long> scheduleIds = schedules.stream()
+            .map(MealSchedule::getId)
+            .collect(Collectors.toList());
+        Map<Long, Map<Long, MealScheduleParticipant>> participantsBySchedule =
+            participantRepository.findHistoryByScheduleIdIn(scheduleIds).stream()
+                .collect(Collectors.groupingBy(
+                    p -> p.getSchedule().getId(),
+                    Collectors.toMap(p -> p.getUser().getId(), p -> p)
+                ));
+
+        List<MealHistoryDTO> content = new ArrayList<>(pageSize);
+        MealSchedule lastSchedule = null;
+        Long lastUserId = null;
+        boolean hasNext = false;
+
+        rows:
+        for (MealSchedule schedule : schedules) {
+            Map<Long, MealScheduleParticipant> participantMap =
+                participantsBySchedule.getOrDefault(schedule.getId(), Collections.emptyMap());
+            boolean cursorSchedule = after != null && schedule.getId().equals(after.getScheduleId());
+
+            for (RosterUser user : users) {
+                if (cursorSchedule && user.getId() <= after.getUserId()) {
+                    continue;
+                }
+                if (content.size() == pageSize) {
+                    hasNext = true;
+                    break rows;
+                }
+                MealScheduleParticipant participant = participantMap.get(user.getId());
+                content.add(participant != null
+                    ? convertToMealHistoryDTO(participant)
+                    : createUncheckedHistory(schedule, user));
+                lastSchedule = schedule;
+                lastUserId = user.getId();
+            }
+        }
+
+        String nextCursor = hasNext
+            ? new HistoryCursor(lastSchedule.getMealDate(), lastSchedule.getId(), lastUserId).format()
+            : null;
+        return new MealHistoryPageDTO(content, hasNext, nextCursor);
+    }
+
+    /**
+     * 전체 식사 기록을 DB 커서로 순회하며 한 행씩 sink 로 전달합니다.
+     * 참여 정보는 (mealDate, scheduleId, userId) 순으로 스트리밍하고, 같은 순서로
+     * 스케줄 × 사용자 조합을 돌면서 참여 기록이 없는 사용자는 미수령 행을 만들어 끼워 넣습니다.
+     * 스케줄 목록과 사용자 명단 외에는 메모리에 쌓지 않습니다.
+     */
+    public void streamAllMealHistory(LocalDate startDate, LocalDate endDate, Consumer<MealHistoryDTO> sink) {
+        LocalDate from = startDate != null ? startDate : MIN_MEAL_DATE;
+        LocalDate to = endDate != null ? endDate : MAX_MEAL_DATE;
+
+        List<RosterUser> users = sortedActiveUsers();
+        List<MealSchedule> schedules = scheduleRepository.findByMealDateBetweenOrderByMealDateAscIdAsc(from, to);
+        if (users.isEmpty() || schedules.isEmpty()) {
+            return;
+        }
+
+        try (Stream<MealHistoryDTO> rows = participantRepository.streamHistoryByMealDateBetween(from, to)) {
+            Iterator<MealHistoryDTO> iterator = rows.iterator();
+            MealHistoryDTO current = iterator.hasNext() ? iterator.next() : null;
+
+            for (MealSchedule schedule : schedules) {
+                for (RosterUser user : users) {
+                    // 현재 위치보다 앞선 참여 정보(비활성 사용자 등)는 건너뜀
+                    while (current != null && compareRow(current, schedule, user.getId()) < 0) {
+                        current = iterator.hasNext() ? iterator.next() : null;
+                    }
+
+                    if (current != null && compareRow(current, schedule, user.getId()) == 0) {
+                        // DB에 저장된 날짜가 하루 앞당겨져 있는 환경을 고려해 +1일 보정
+                        current.setMealDate(current.getMealDate() != null ? current.getMealDate().plusDays(1) : null);
+                        sink.accept(current);
+                        current = iterator.hasNext() ? iterator.next() : null;
+                    } else {
+                        sink.accept(createUncheckedHistory(schedule, user));
+                    }
+                }
+            }
+        }
+    }
+
+    private int compareRow(MealHistoryDTO row, MealSchedule schedule, Long userId) {
+        int result = row.getMealDate().compareTo(schedule.getMealDate());
+        if (result == 0) {
+            result = row.getScheduleId().compareTo(schedule.getId());
+        }
+        if (result == 0) {
+            result = row.getUserId().compareTo(userId);
+        }
+        return result;
+    }
+
+    private List<RosterUser> sortedActiveUsers() {
+        return userRosterCache.getActiveUsers().stream()
+            .sorted(Comparator.comparing(RosterUser::getId))
+            .collect(Collectors.toList());
+    }
+
+    private MealHistoryDTO createUncheckedHistory(MealSchedule schedule, RosterUser user) {
+        MealHistoryDTO dto = new MealHistoryDTO();
+        dto.setId(null);
+        dto.setScheduleId(schedule.getId());
+        dto.setMealDate(schedule.getMealDate() != null ? schedule.getMealDate().plusDays(1) : null);
+        dto.setMealType(schedule.getMealType());
+        dto.setDescription(schedule.getDescription());
+        dto.setUserId(user.getId());
+        dto.setUserName(user.getName());
+        dto.setUserDepartment(user.getDepartment());
+        dto.setChecked(false);
+        dto.setNote(null);
+        dto.setCheckedAt(null);
+        return dto;
+    }
+
+    /**
+     * 전체 식사 기록 페이지 커서: 마지막으로 내려준 행의 (mealDate, scheduleId, userId)
+     */
+    @Value
+    static class HistoryCursor {
+        LocalDate mealDate;
+        Long scheduleId;
+        Long userId;
+
+        static HistoryCursor parse(String cursor) {
+            String[] parts = cursor.split(",");
+            try {
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                return new HistoryCursor(
+                    LocalDate.parse(parts[0]),
+                    Long.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("잘못된 cursor 값입니다: " + cursor);
+            }
+        }
+
+        String format() {
+            return mealDate + "," + scheduleId + "," + userId;
+        }
+    }
+
     private MealHistoryDTO convertToMealHistoryDTO(MealScheduleParticipant participant) {
         MealHistoryDTO dto = new MealHistoryDTO();
         dto.setId(participant.getId());
@@ -0,0 +1,325 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.dto.UserImportResultDTO;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV 사용자 일괄 등록 (신규 사업장 온보딩 등).
+ *
+ * 헤더: username,name,password[,department][,active] (열 순서 무관, 한 행 = 한 줄)
+ * 한 줄씩 읽으며 검증하고, 아이디 중복은 IN 조회로 한꺼번에 확인합니다.
+ * 아이디는 대소문자를 구분하지 않고 비교합니다 (운영 DB 기본 collation 의 유니크 키와 같은 기준).
+ * BCrypt 인코딩은 고정 크기 스레드 풀(mealcheck.user-import.hash-threads)에서 병렬로 처리하고,
+ * 저장은 SAVE_CHUNK_SIZE 행씩 나눈 트랜잭션에서 saveAll 로 JDBC batch 전송합니다.
+ * 잘못된 행은 해당 행만 실패로 보고하고 나머지는 계속 등록합니다.
+ * (저장 중 제약 조건 위반이 나면 해당 묶음의 행만 실패 처리)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "mealcheck.service", histogram = true)
+public class UserImportService {
+
+    // 한 번에 등록할 수 있는 최대 행 수
+    static final int MAX_IMPORT_ROWS = 10_000;
+    // 아이디 중복 조회 IN 절 크기
+    private static final int USERNAME_QUERY_CHUNK_SIZE = 1_000;
+    // 저장 트랜잭션 하나에 담는 행 수 (JDBC batch_size 의 배수)
+    static final int SAVE_CHUNK_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final DemoAccountGuard demoAccountGuard;
+    private final UserRosterCache userRosterCache;
+    private final PlatformTransactionManager transactionManager;
+
+    // 0 이면 CPU 코어 수
+    @Value("${mealcheck.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    private ExecutorService hashExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 인코딩 동안 DB 커넥션을 잡고 있지 않도록 저장 단계만 트랜잭션으로 묶습니다.
+     */
+    public UserImportResultDTO importCsv(InputStream inputStream) throws IOException {
+        demoAccountGuard.checkNotDemoUser();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new RuntimeException("CSV 파일이 비어 있습니다");
+        }
+        // Excel 에서 저장한 UTF-8 BOM 제거
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("username") || !columns.containsKey("name") || !columns.containsKey("password")) {
+            throw new RuntimeException("CSV 헤더에 username, name, password 열이 필요합니다");
+        }
+
+        List<UserImportResultDTO.Row> rows = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        int lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() >= MAX_IMPORT_ROWS) {
+                throw new RuntimeException("한 번에 등록할 수 있는 사용자는 최대 " + MAX_IMPORT_ROWS + "명입니다");
+            }
+            List<String> fields = parseLine(line);
+            String username = field(fields, columns, "username");
+            UserImportResultDTO.Row row = new UserImportResultDTO.Row(lineNumber, username, false, null, null);
+            rows.add(row);
+
+            Candidate candidate = new Candidate(row, username, field(fields, columns, "name"),
+                field(fields, columns, "password"), field(fields, columns, "department"));
+            String message = validate(candidate, field(fields, columns, "active"));
+            if (message == null && !seenUsernames.add(username.toLowerCase(Locale.ROOT))) {
+                message = "파일에 중복된 아이디입니다";
+            }
+            if (message != null) {
+                row.setMessage(message);
+            } else {
+                candidates.add(candidate);
+            }
+        }
+
+        // 이미 등록된 아이디를 IN 조회로 한꺼번에 확인
+        // (대소문자만 다른 아이디는 운영 DB collation 에서 IN 조회에 함께 잡히고, 비교는 소문자로 통일)
+        Set<String> existing = new HashSet<>();
+        List<String> usernames = candidates.stream().map(candidate -> candidate.username).toList();
+        for (int from = 0; from < usernames.size(); from += USERNAME_QUERY_CHUNK_SIZE) {
+            userRepository.findExistingUsernames(usernames.subList(from, Math.min(from + USERNAME_QUERY_CHUNK_SIZE, usernames.size())))
+                .forEach(username -> existing.add(username.toLowerCase(Locale.ROOT)));
+        }
+        List<Candidate> accepted = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (existing.contains(candidate.username.toLowerCase(Locale.ROOT))) {
+                candidate.row.setMessage("이미 사용 중인 아이디입니다");
+            } else {
+                accepted.add(candidate);
+            }
+        }
+
+        encodeAll(accepted);
+        // 비밀번호 인코딩에 실패한 행은 해당 행만 실패로 남기고 저장 대상에서 제외
+        accepted.removeIf(candidate -> candidate.user == null);
+        int created = 0;
+        for (int from = 0; from < accepted.size(); from += SAVE_CHUNK_SIZE) {
+            int to = Math.min(from + SAVE_CHUNK_SIZE, accepted.size());
+            List<User> chunk = accepted.subList(from, to).stream().map(candidate -> candidate.user).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(chunk));
+            } catch (DataIntegrityViolationException e) {
+                // 중복 확인 이후 다른 요청에서 같은 아이디가 먼저 등록된 경우 등 (해당 묶음만 롤백)
+                log.warn("importCsv - chunk rolled back, lines={}~{}", accepted.get(from).row.getLine(), accepted.get(to - 1).row.getLine(), e);
+                for (int i = from; i < to; i++) {
+                    accepted.get(i).row.setMessage("같은 묶음의 행 저장 중 아이디 충돌이 발생했습니다. 다시 시도해 주세요");
+                }
+                continue;
+            }
+            for (int i = from; i < to; i++) {
+                UserImportResultDTO.Row row = accepted.get(i).row;
+                row.setSuccess(true);
+                row.setUserId(accepted.get(i).user.getId());
+            }
+            created += chunk.size();
+        }
+        if (created > 0) {
+            userRosterCache.invalidate();
+        }
+
+        log.info("importCsv - rows={}, created={}, failed={}", rows.size(), created, rows.size() - created);
+        return new UserImportResultDTO(rows.size(), created, rows.size() - created, rows);
+    }
+
+    // 후보마다 candidate.user 를 채우고, 인코딩에 실패한 후보는 행 메시지만 남김 (user 는 null)
+    private void encodeAll(List<Candidate> candidates) {
+        List<CompletableFuture<String>> encoded = candidates.stream()
+            .map(candidate -> encodeAsync(candidate.password))
+            .toList();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            String password;
+            try {
+                password = encoded.get(i).join();
+            } catch (CompletionException e) {
+                log.warn("importCsv - password encoding failed, line={}", candidate.row.getLine(), e.getCause());
+                candidate.row.setMessage("비밀번호를 처리하지 못했습니다. 다시 시도해 주세요");
+                continue;
+            }
+            User user = new User();
+            user.setUsername(candidate.username);
+            user.setName(candidate.name);
+            user.setPassword(password);
+            user.setDepartment(candidate.department);
+            user.setRole("USER");
+            user.setApproved(true); // 관리자가 직접 추가하는 경우 승인 처리
+            user.setActive(candidate.active);
+            candidate.user = user;
+        }
+    }
+
+    private CompletableFuture<String> encodeAsync(String password) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // CreateUserRequest 와 같은 규칙
+    private String validate(Candidate candidate, String active) {
+        if (candidate.username == null) {
+            return "아이디는 필수입니다";
+        }
+        if (candidate.username.length() > 50) {
+            return "아이디는 50자 이내여야 합니다";
+        }
+        if (candidate.name == null) {
+            return "이름은 필수입니다";
+        }
+        if (candidate.name.length() > 100) {
+            return "이름은 100자 이내여야 합니다";
+        }
+        if (candidate.password == null) {
+            return "비밀번호는 필수입니다";
+        }
+        if (candidate.password.length() < 6) {
+            return "비밀번호는 최소 6자 이상이어야 합니다";
+        }
+        if (candidate.department != null && candidate.department.length() > 50) {
+            return "부서명은 50자 이내여야 합니다";
+        }
+        if (active == null || "true".equalsIgnoreCase(active)) {
+            candidate.active = true;
+        } else if ("false".equalsIgnoreCase(active)) {
+            candidate.active = false;
+        } else {
+            return "active 값은 true 또는 false 여야 합니다";
+        }
+        return null;
+    }
+
+    // 빈 값은 null (비밀번호를 제외하고 앞뒤 공백 제거)
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = "password".equals(column) ? fields.get(index) : fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 큰따옴표로 감싼 값과 "" 이스케이프를 지원합니다 (MealHistoryExportService 출력 형식).
+     * 값 안의 줄바꿈은 지원하지 않습니다.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static final class Candidate {
+        private final UserImportResultDTO.Row row;
+        private final String username;
+        private final String name;
+        private final String password;
+        private final String department;
+        private boolean active = true;
+        // 비밀번호 인코딩 후 저장할 엔티티 (실패하면 null)
+        private User user;
+
+        private Candidate(UserImportResultDTO.Row row, String username, String name, String password, String department) {
+            this.row = row;
+            this.username = username;
+            this.name = name;
+            this.password = password;
+            this.department = department;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 승인된 사용자 명단(데모 계정 제외)을 메모리에 보관하는 캐시입니다.
+ *
+ * - 스냅샷은 불변 리스트이며 AtomicReference 로 통째로 교체됩니다.
+ * - 사용자 생성/수정/삭제, 가입 승인/거절 시 invalidate() 를 호출하면
+ *   트랜잭션 커밋 이후 버전이 올라가고, 다음 조회 시 DB 에서 다시 읽어옵니다.
+ * - 조회 도중 무효화가 일어나면 해당 스냅샷은 이전 버전으로 남아 다음 조회에서 버려집니다.
+ * - 명단은 호출자 트랜잭션과 별도의 READ_COMMITTED 트랜잭션에서 읽으므로,
+ *   무효화 전에 시작된 트랜잭션이 이전 명단을 새 버전으로 캐시하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserRosterCache {
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 승인된 사용자 전체 (활성/비활성 모두 포함, 데모 계정 제외)
+     */
+    public List<RosterUser> getApprovedUsers() {
+        return currentSnapshot().getApprovedUsers();
+    }
+
+    /**
+     * 승인 + 활성 사용자 (식사 체크 대상자, 데모 계정 제외)
+     */
+    public List<RosterUser> getActiveUsers() {
+        return currentSnapshot().getActiveUsers();
+    }
+
+    /**
+     * id 로 승인된 사용자를 찾습니다 (활성/비활성 모두, 데모 계정 제외).
+     */
+    public Optional<RosterUser> findApprovedUser(Long userId) {
+        return Optional.ofNullable(currentSnapshot().getApprovedUsersById().get(userId));
+    }
+
+    /**
+     * 사용자 정보가 변경되었음을 알립니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에, 아니면 즉시 캐시를 무효화합니다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        long currentVersion = version.get();
+        Snapshot current = snapshot.get();
+        if (current != null && current.getVersion() == currentVersion) {
+            return current;
+        }
+
+        // REPEATABLE READ 인 호출자 트랜잭션의 스냅샷이 아니라, 버전을 읽은 이후 커밋된 명단을 조회
+        TransactionTemplate loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        loadTransaction.setReadOnly(true);
+        List<User> users = loadTransaction.execute(status -> userRepository.findByApprovedTrue());
+
+        List<RosterUser> approvedUsers = users.stream()
+            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
+            .map(RosterUser::from)
+            .collect(Collectors.toUnmodifiableList());
+        List<RosterUser> activeUsers = approvedUsers.stream()
+            .filter(RosterUser::isActive)
+            .collect(Collectors.toUnmodifiableList());
+
+        Map<Long, RosterUser> approvedUsersById = approvedUsers.stream()
+            .collect(Collectors.toUnmodifiableMap(RosterUser::getId, Function.identity()));
+
+        Snapshot loaded = new Snapshot(currentVersion, approvedUsers, activeUsers, approvedUsersById);
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    @Value
+    private static class Snapshot {
+        long version;
+        List<RosterUser> approvedUsers;
+        List<RosterUser> activeUsers;
+        Map<Long, RosterUser> approvedUsersById;
+    }
+
+    @Value
+    public static class RosterUser {
+        Long id;
+        String name;
+        String department;
+        String role;
+        boolean active;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+
+        static RosterUser from(User user) {
+            return new RosterUser(
+                user.getId(),
+                user.getName(),
+                user.getDepartment(),
+                user.getRole(),
+                Boolean.TRUE.equals(user.getActive()),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+            );
+        }
+    }
+}
@@ -4,42 +4,94 @@ import com.mealcheck.config.DemoAccountGuard;
 import com.mealcheck.dto.ChangePasswordRequest;
 import com.mealcheck.dto.CreateUserRequest;
 import com.mealcheck.dto.UserDTO;
+import com.mealcheck.dto.UserDirectoryEntryDTO;
+import com.mealcheck.dto.UserDirectoryPageDTO;
 import com.mealcheck.entity.User;
 import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "mealcheck.service", histogram = true)
 public class UserService {
     
+    // 사용자 디렉터리 페이지 최대 크기
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 200;
+    
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final DemoAccountGuard demoAccountGuard;
+    private final UserRosterCache userRosterCache;
+    private final CustomUserDetailsService userDetailsService;
     
     public List<UserDTO> getAllUsers() {
         // 승인된 사용자 모두 반환 (활성/비활성 모두 포함)
-        return userRepository.findByApprovedTrue().stream()
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
+        return userRosterCache.getApprovedUsers().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
     
     public List<UserDTO> getActiveUsers() {
         // 승인되고 활성화된 사용자만 반환
-        return userRepository.findByApprovedTrue().stream()
-            .filter(User::getActive)
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
+        return userRosterCache.getActiveUsers().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
     
+    /**
+     * 사용자 디렉터리 키셋 페이지 조회 (관리자 사용자 목록).
+     * 필터는 모두 DB 에서 처리하고 (pageSize + 1) 행만 읽으므로 인원 수와 관계없이 응답 크기가 일정합니다.
+     * 승인된 사용자만 이름·ID 순으로 반환하며 데모 계정은 제외합니다.
+     */
+    public UserDirectoryPageDTO getUserDirectoryPage(String department, Boolean active, String role,
+                                                     String name, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE));
+        DirectoryCursor after = cursor != null && !cursor.isBlank() ? DirectoryCursor.parse(cursor) : null;
+        
+        List<UserDirectoryEntryDTO> rows = userRepository.findDirectoryPage(
+            DemoAccountGuard.DEMO_USERNAME,
+            department != null && !department.isBlank() ? department.trim() : null,
+            active,
+            role != null && !role.isBlank() ? role.trim().toUpperCase(Locale.ROOT) : null,
+            namePrefixPattern(name),
+            after != null ? after.getName() : "",
+            after != null ? after.getId() : 0L,
+            PageRequest.of(0, pageSize + 1));
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<UserDirectoryEntryDTO> content = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            UserDirectoryEntryDTO last = content.get(content.size() - 1);
+            nextCursor = new DirectoryCursor(last.getId(), last.getName()).format();
+        }
+        return new UserDirectoryPageDTO(content, hasNext, nextCursor);
+    }
+    
+    // 이름 접두어 LIKE 패턴 ('!' 로 와일드카드 이스케이프)
+    private static String namePrefixPattern(String name) {
+        if (name == null || name.isBlank()) {
+            return "%";
+        }
+        return name.trim()
+            .replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_") + "%";
+    }
+    
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
@@ -64,6 +116,7 @@ public class UserService {
         user.setActive(request.getActive() != null ? request.getActive() : true);
         
         User savedUser = userRepository.save(user);
+        userRosterCache.invalidate();
         return convertToDTO(savedUser);
     }
     
@@ -75,21 +128,28 @@ public class UserService {
         
         user.setName(userDTO.getName());
         user.setDepartment(userDTO.getDepartment());
+        boolean deactivated = Boolean.TRUE.equals(user.getActive()) && Boolean.FALSE.equals(userDTO.getActive());
         if (userDTO.getActive() != null) {
             user.setActive(userDTO.getActive());
         }
         
         User updatedUser = userRepository.save(user);
+        userRosterCache.invalidate();
+        if (deactivated) {
+            // 비활성화된 사용자는 인증 캐시에서 즉시 제거
+            userDetailsService.evictUser(user.getUsername());
+        }
         return convertToDTO(updatedUser);
     }
     
     @Transactional
     public void deleteUser(Long id) {
         demoAccountGuard.checkNotDemoUser();
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("사용자를 찾을 수 없습니다: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+        userRepository.delete(user);
+        userRosterCache.invalidate();
+        userDetailsService.evictUser(user.getUsername());
     }
     
     private UserDTO convertToDTO(User user) {
@@ -103,6 +163,17 @@ public class UserService {
         return dto;
     }
     
+    private UserDTO convertToDTO(RosterUser user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setDepartment(user.getDepartment());
+        dto.setActive(user.isActive());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setUpdatedAt(user.getUpdatedAt());
+        return dto;
+    }
+    
     private User convertToEntity(UserDTO dto) {
         User user = new User();
         user.setName(dto.getName());
@@ -125,18 +196,17 @@ public class UserService {
         // 새 비밀번호 설정
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userDetailsService.evictUser(user.getUsername());
     }
     
     public java.util.Map<String, Object> getUserStatistics() {
-        // 승인된 사용자 중 데모 계정 제외
-        List<User> approvedUsers = userRepository.findByApprovedTrue().stream()
-            .filter(user -> !DemoAccountGuard.DEMO_USERNAME.equals(user.getUsername()))
-            .collect(java.util.stream.Collectors.toList());
+        // 승인된 사용자 중 데모 계정 제외 (메모리 캐시)
+        List<RosterUser> approvedUsers = userRosterCache.getApprovedUsers();
         
         java.util.Map<String, Object> stats = new java.util.HashMap<>();
         stats.put("totalUsers", approvedUsers.size());
-        stats.put("activeUsers", approvedUsers.stream().filter(User::getActive).count());
-        stats.put("inactiveUsers", approvedUsers.stream().filter(u -> !u.getActive()).count());
+        stats.put("activeUsers", approvedUsers.stream().filter(RosterUser::isActive).count());
+        stats.put("inactiveUsers", approvedUsers.stream().filter(u -> !u.isActive()).count());
         stats.put("approvedUsers", approvedUsers.size());
         stats.put("pendingUsers", userRepository.findByApprovedFalse().size());
         stats.put("adminUsers", approvedUsers.stream().filter(u -> "ADMIN".equals(u.getRole())).count());
@@ -146,12 +216,37 @@ public class UserService {
         java.util.Map<String, Long> byDepartment = approvedUsers.stream()
             .filter(u -> u.getDepartment() != null && !u.getDepartment().isEmpty())
             .collect(java.util.stream.Collectors.groupingBy(
-                User::getDepartment, 
+                RosterUser::getDepartment, 
                 java.util.stream.Collectors.counting()
             ));
         stats.put("byDepartment", byDepartment);
         
         return stats;
     }
+    
+    /**
+     * 사용자 디렉터리 페이지 커서: 마지막으로 내려준 사용자의 (id, name)
+     * 이름에 쉼표가 있을 수 있으므로 id 를 앞에 둡니다.
+     */
+    @Value
+    static class DirectoryCursor {
+        Long id;
+        String name;
+        
+        static DirectoryCursor parse(String cursor) {
+            String[] parts = cursor.split(",", 2);
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                return new DirectoryCursor(Long.valueOf(parts[0]), parts[1]);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("잘못된 cursor 값입니다: " + cursor);
+            }
+        }
+        
+        String format() {
+            return id + "," + name;
+        }
+    }
 }
-
@@ -0,0 +1,72 @@
+-- 기준 스키마: 지금까지 ddl-auto(update) 로 만들어지던 테이블과 같은 구조입니다.
+-- 제약 조건 이름도 Hibernate 가 만들던 이름을 그대로 사용하므로,
+-- 기존 DB 는 baseline-on-migrate 로 이 버전을 기준선으로 잡고 V2 부터 적용됩니다.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    department VARCHAR(50),
+    role VARCHAR(20) NOT NULL,
+    approved BIT NOT NULL,
+    active BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE meal_schedules (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    meal_date DATE NOT NULL,
+    meal_type ENUM ('BREAKFAST','LUNCH','DINNER') NOT NULL,
+    description VARCHAR(500),
+    active BIT NOT NULL,
+    created_by BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE meal_schedule_participants (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    schedule_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    checked BIT NOT NULL,
+    note VARCHAR(200),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE meal_checks (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    meal_date DATE NOT NULL,
+    meal_type ENUM ('BREAKFAST','LUNCH','DINNER') NOT NULL,
+    checked BIT NOT NULL,
+    note VARCHAR(200),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE meal_check_ins (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    meal_schedule_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    note VARCHAR(200),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE users ADD CONSTRAINT UK_r43af9ap4edm43mmtq01oddj6 UNIQUE (username);
+ALTER TABLE meal_schedules ADD CONSTRAINT UK6wjh46kl7ll8q160gvejkjoox UNIQUE (meal_date, meal_type);
+ALTER TABLE meal_schedule_participants ADD CONSTRAINT UKedydjnptdfla5vu7p4v9su1lw UNIQUE (schedule_id, user_id);
+ALTER TABLE meal_checks ADD CONSTRAINT UKd5j2f5md57dm5hlhfs5of579p UNIQUE (user_id, meal_date, meal_type);
+ALTER TABLE meal_check_ins ADD CONSTRAINT UK89ncn4ctjbbhhinprg9jcxjhd UNIQUE (meal_schedule_id, user_id);
+
+ALTER TABLE meal_schedules ADD CONSTRAINT FKa6klyckr606rbxb4bbfth60uo FOREIGN KEY (created_by) REFERENCES users (id);
+ALTER TABLE meal_schedule_participants ADD CONSTRAINT FKq9mgwllpk1wyo9urx1xte7ihf FOREIGN KEY (schedule_id) REFERENCES meal_schedules (id);
+ALTER TABLE meal_schedule_participants ADD CONSTRAINT FK3un6bow28edliq30n1xptkj36 FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE meal_checks ADD CONSTRAINT FKae6nnv5l8q3vv2vqpwj60tua7 FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE meal_check_ins ADD CONSTRAINT FKl83lvcyppiwilxq3v2vp1d5v4 FOREIGN KEY (meal_schedule_id) REFERENCES meal_schedules (id);
+ALTER TABLE meal_check_ins ADD CONSTRAINT FKtpjokqadqatikc9l95ibsdewj FOREIGN KEY (user_id) REFERENCES users (id);
@@ -0,0 +1,19 @@
+-- 자주 실행되는 조회에 맞춘 인덱스 (HotQueryIndexTest 가 H2 EXPLAIN 으로 사용 여부를 확인)
+-- meal_schedules.meal_date 조건(findByMealDate, findByMealDateGreaterThanEqualOrderByMealDateAsc 등)은
+-- 유니크 키 (meal_date, meal_type) 가 맨 앞 컬럼으로 처리합니다.
+
+-- 참여 정보 - 사용자별: 사용자가 수령한 스케줄 ID (커버링), 내 식사 기록
+-- (전체 컬럼을 읽는 findByUserId 는 user_id 외래 키 인덱스로 처리)
+CREATE INDEX idx_participants_user_schedule ON meal_schedule_participants (user_id, schedule_id, checked);
+
+-- 참여 정보 - 스케줄별 수령: countByScheduleIdAndCheckedTrue, 스케줄별 수령 인원/수령자 ID (커버링)
+CREATE INDEX idx_participants_schedule_checked ON meal_schedule_participants (schedule_id, checked, user_id);
+
+-- 스케줄 - 활성 목록: findByActiveTrue
+CREATE INDEX idx_schedules_active_date ON meal_schedules (active, meal_date);
+
+-- 식사 체크 - 날짜별 조회/집계: findByMealDate, countCheckedByDateAndType, countByMealTypeAndChecked
+CREATE INDEX idx_meal_checks_date_type ON meal_checks (meal_date, meal_type, checked);
+
+-- 사용자 - 승인 여부: findByApprovedTrue, findByApprovedFalse (사용자 명단 캐시 적재)
+CREATE INDEX idx_users_approved_active ON users (approved, active);
@@ -0,0 +1,16 @@
+-- 미리 할당(pooled-lo) ID 용 할당 테이블
+-- MySQL 은 시퀀스가 없으므로 Hibernate 가 sequenceName 이름의 한 행짜리 테이블(next_val)을 시퀀스처럼 사용합니다.
+-- next_val 은 다음에 나눠 줄 첫 ID 이며, 기존 데이터 다음 번호부터 시작합니다.
+-- id 컬럼의 AUTO_INCREMENT 는 그대로 두지만, 이 테이블들에 대한 INSERT 는 JPA 를 거쳐 ID 를 직접 지정해야 합니다.
+
+CREATE TABLE users_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+
+CREATE TABLE meal_schedules_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO meal_schedules_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM meal_schedules;
+
+CREATE TABLE meal_checks_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO meal_checks_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM meal_checks;
+
+CREATE TABLE meal_check_ins_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO meal_check_ins_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM meal_check_ins;
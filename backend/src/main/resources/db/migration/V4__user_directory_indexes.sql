@@ -0,0 +1,6 @@
+-- 사용자 디렉터리 키셋 페이지 (UserRepository.findDirectoryPage, HotQueryIndexTest)
+-- 승인된 사용자를 (name, id) 순으로 읽으며 이름 접두어(LIKE 'abc%')와 커서 조건을 같은 범위 스캔으로 처리
+CREATE INDEX idx_users_directory_name ON users (approved, name, id);
+
+-- 부서 필터가 있는 경우: 해당 부서만 (name, id) 순으로 읽음
+CREATE INDEX idx_users_directory_department ON users (department, approved, name, id);
@@ -0,0 +1,4 @@
+-- 참여 정보 - 수령 처리 시점의 부서 (meal_daily_rollup.department 와 같은 값, 부서 없음은 '')
+-- 부서 이동 후 해제해도 수령 때 올린 집계 행을 내리도록 기록합니다.
+-- 기존 행은 NULL 이며, 이 경우 사용자의 현재 부서로 집계합니다.
+ALTER TABLE meal_schedule_participants ADD COLUMN department VARCHAR(50);
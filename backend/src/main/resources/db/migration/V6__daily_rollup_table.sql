@@ -0,0 +1,13 @@
+-- 날짜 · 식사 타입 · 부서별 식사 수령 집계 (MealDailyRollup)
+-- 기준 스키마(V1) 이후에 추가된 테이블이므로 별도 버전으로 생성합니다.
+-- 이전 V1 로 이미 이 테이블이 만들어진 개발 DB 는 flyway repair 후에도 그대로 통과하도록 IF NOT EXISTS 를 사용합니다.
+CREATE TABLE IF NOT EXISTS meal_daily_rollup (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    meal_date DATE NOT NULL,
+    meal_type ENUM ('BREAKFAST','LUNCH','DINNER') NOT NULL,
+    department VARCHAR(50) NOT NULL,
+    checked_count BIGINT NOT NULL,
+    eligible_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKs7elgyqvx9b4pd0orwhvkhww1 UNIQUE (meal_date, meal_type, department)
+) ENGINE=InnoDB;
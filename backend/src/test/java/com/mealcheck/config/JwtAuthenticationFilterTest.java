@@ -0,0 +1,98 @@
+package com.mealcheck.config;
+
+import com.mealcheck.service.CustomUserDetailsService;
+import com.mealcheck.service.UserRosterCache;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private Claims claims;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldAuthenticateActiveUserWithCurrentRole() throws Exception {
+        givenToken(new AuthenticatedUser(7L, "user1", null, "ADMIN", true));
+        when(userRosterCache.findApprovedUser(7L))
+            .thenReturn(Optional.of(new RosterUser(7L, "사용자1", "Dev", "USER", true, null, null)));
+
+        Authentication authentication = filter();
+
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("user1", principal.getUsername());
+        // 토큰 발급 이후 바뀐 역할을 반영
+        assertEquals("USER", principal.getRole());
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    void doFilter_shouldRejectDeactivatedOrDeletedUserBeforeTokenExpires() throws Exception {
+        givenToken(new AuthenticatedUser(7L, "user1", null, "USER", true));
+        when(userRosterCache.findApprovedUser(7L))
+            .thenReturn(Optional.of(new RosterUser(7L, "사용자1", "Dev", "USER", false, null, null)));
+        assertNull(filter());
+
+        when(userRosterCache.findApprovedUser(7L)).thenReturn(Optional.empty());
+        assertNull(filter());
+    }
+
+    @Test
+    void doFilter_shouldLoadDemoAccountOutsideRoster() throws Exception {
+        givenToken(new AuthenticatedUser(9L, DemoAccountGuard.DEMO_USERNAME, null, "ADMIN", true));
+        when(customUserDetailsService.loadUserByUsername(DemoAccountGuard.DEMO_USERNAME))
+            .thenReturn(new AuthenticatedUser(9L, DemoAccountGuard.DEMO_USERNAME, null, "ADMIN", true));
+
+        Authentication authentication = filter();
+
+        assertEquals(DemoAccountGuard.DEMO_USERNAME, authentication.getName());
+        verifyNoInteractions(userRosterCache);
+    }
+
+    private void givenToken(AuthenticatedUser tokenUser) {
+        when(tokenProvider.parseClaims("token")).thenReturn(claims);
+        when(tokenProvider.getAuthenticatedUser(claims)).thenReturn(tokenUser);
+    }
+
+    private Authentication filter() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,96 @@
+package com.mealcheck.config;
+
+import com.mealcheck.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "test_jwt_secret_for_tests_only");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRememberExpirationInMs", 120_000L);
+        ReflectionTestUtils.setField(tokenProvider, "cacheTtlInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxSize", 2);
+        tokenProvider.init();
+    }
+
+    @Test
+    void generateToken_shouldEmbedUserIdRoleAndApproval() {
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("user1");
+        user.setRole("ADMIN");
+        user.setApproved(true);
+
+        String token = tokenProvider.generateToken(user);
+        Claims claims = tokenProvider.parseClaims(token);
+        AuthenticatedUser principal = tokenProvider.getAuthenticatedUser(claims);
+
+        assertNotNull(principal);
+        assertEquals(7L, principal.getId());
+        assertEquals("user1", principal.getUsername());
+        assertEquals("ADMIN", principal.getRole());
+        assertTrue(principal.isApproved());
+        assertTrue(principal.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority())));
+    }
+
+    @Test
+    void validateToken_shouldRejectTamperedToken() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setApproved(true);
+
+        String token = tokenProvider.generateToken(user);
+
+        assertTrue(tokenProvider.validateToken(token));
+        assertFalse(tokenProvider.validateToken(token + "x"));
+        assertFalse(tokenProvider.validateToken("not-a-jwt"));
+    }
+
+    @Test
+    void parseClaims_shouldReuseVerifiedClaimsForSameToken() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setRole("USER");
+        user.setApproved(true);
+
+        String token = tokenProvider.generateToken(user);
+
+        Claims first = tokenProvider.parseClaims(token);
+        Claims second = tokenProvider.parseClaims(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void parseClaims_shouldStayBoundedWhenCacheIsFull() {
+        for (long id = 1; id <= 5; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setUsername("user" + id);
+            user.setRole("USER");
+            user.setApproved(true);
+
+            String token = tokenProvider.generateToken(user);
+            assertEquals(id, tokenProvider.getAuthenticatedUser(tokenProvider.parseClaims(token)).getId());
+        }
+
+        Map<?, ?> verifiedTokens = (Map<?, ?>) ReflectionTestUtils.getField(tokenProvider, "verifiedTokens");
+        assertTrue(verifiedTokens.size() <= 2);
+    }
+}
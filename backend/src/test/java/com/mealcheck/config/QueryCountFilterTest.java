@@ -0,0 +1,113 @@
+package com.mealcheck.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1");
+        dataSource = QueryCountingDataSource.wrap(h2);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS items (id BIGINT)");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void doFilter_shouldRecordStatementsExecutedDuringRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/meal-schedules/10/participants/unchecked");
+
+        new QueryCountFilter(meterRegistry).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/meal-schedules/{id}/participants/unchecked");
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+            // batch 는 한 번의 실행으로 집계
+            jdbcTemplate.batchUpdate("INSERT INTO items (id) VALUES (?)", List.of(new Object[]{1L}, new Object[]{2L}));
+            assertEquals(2, QueryCounter.current());
+        });
+
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+            .tag("uri", "/api/meal-schedules/{id}/participants/unchecked")
+            .tag("method", "GET")
+            .tag("status", "200")
+            .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+        assertEquals(0, QueryCounter.current());
+    }
+
+    @Test
+    void doFilter_shouldFlagRepeatedStatementsAndExposeHeaders() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "maxStatements", 3);
+        ReflectionTestUtils.setField(filter, "repeatedStatementThreshold", 3);
+        ReflectionTestUtils.setField(filter, "exposeHeaders", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/meal-schedules/10/participants");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/meal-schedules/{id}/participants");
+            // 행마다 같은 조회를 반복하는 N+1 형태
+            for (long id = 1; id <= 4; id++) {
+                jdbcTemplate.queryForList("SELECT id FROM items WHERE id = ?", Long.class, id);
+            }
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            // 본문을 쓰기 시작한 뒤 실행된 SQL 은 헤더에 포함되지 않음
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+        });
+
+        assertEquals("4", response.getHeader(QueryCountFilter.COUNT_HEADER));
+        assertNotNull(response.getHeader(QueryCountFilter.TIME_HEADER));
+        assertEquals(1.0, meterRegistry.get(QueryCountFilter.BUDGET_EXCEEDED_METRIC_NAME)
+            .tag("reason", "statements").counter().count());
+        assertEquals(1.0, meterRegistry.get(QueryCountFilter.BUDGET_EXCEEDED_METRIC_NAME)
+            .tag("reason", "repeated-statement").counter().count());
+        assertEquals(5.0, meterRegistry.get(QueryCountFilter.METRIC_NAME).summary().totalAmount());
+        assertEquals(1, meterRegistry.get(QueryCountFilter.JDBC_TIME_METRIC_NAME).timer().count());
+    }
+
+    @Test
+    void doFilter_shouldWriteFinalCountForBodilessResponse() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "exposeHeaders", true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/meal-schedules/10/uncheck"), response, (req, res) -> {
+            jdbcTemplate.update("DELETE FROM items WHERE id = ?", -1L);
+            ((HttpServletResponse) res).setStatus(204);
+        });
+
+        assertEquals("1", response.getHeader(QueryCountFilter.COUNT_HEADER));
+        assertTrue(meterRegistry.find(QueryCountFilter.BUDGET_EXCEEDED_METRIC_NAME).counters().isEmpty());
+    }
+
+    @Test
+    void wrap_shouldNotCountOutsideRequestAndKeepUnwrap() throws Exception {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+
+        assertEquals(0, QueryCounter.current());
+        assertSame(dataSource, QueryCountingDataSource.wrap(dataSource));
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+        assertNotNull(dataSource.unwrap(JdbcDataSource.class));
+    }
+}
@@ -0,0 +1,174 @@
+package com.mealcheck.controller;
+
+import com.mealcheck.config.JwtTokenProvider;
+import com.mealcheck.config.QueryCountFilter;
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.entity.MealScheduleParticipant;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealDailyRollupRepository;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.repository.MealScheduleRepository;
+import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.UserRosterCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 엔드포인트의 요청당 SQL 문 수를 고정합니다 (X-Query-Count 헤더 기준).
+ *
+ * 캐시(인증 사용자, 사용자 명단, 수령자 인덱스)가 채워진 상태의 두 번째 요청을 측정하며,
+ * 데이터가 늘어도 문 수가 그대로인지 함께 확인해 N+1 회귀를 빌드 실패로 잡습니다.
+ * 쿼리를 줄이거나 늘리는 변경이라면 의도한 것인지 확인한 뒤 기대값을 함께 수정하세요.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MealScheduleQueryBudgetTest {
+
+    private static final LocalDate MEAL_DATE = LocalDate.of(2098, 3, 2);
+    private static final int USER_COUNT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRosterCache userRosterCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealScheduleRepository scheduleRepository;
+
+    @Autowired
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Autowired
+    private MealDailyRollupRepository rollupRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<MealSchedule> schedules = new ArrayList<>();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUsername("budget" + i);
+            user.setName("budget" + i);
+            user.setPassword("encoded");
+            user.setDepartment(i % 2 == 0 ? "Dev" : "Sales");
+            user.setApproved(true);
+            user.setActive(true);
+            users.add(userRepository.save(user));
+        }
+        userRosterCache.invalidate();
+        token = tokenProvider.generateToken(users.get(0));
+        addSchedules(MEAL_DATE, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (MealSchedule schedule : schedules) {
+            participantRepository.deleteAll(participantRepository.findByScheduleId(schedule.getId()));
+        }
+        rollupRepository.deleteAll();
+        scheduleRepository.deleteAll(schedules);
+        userRepository.deleteAll(users);
+        userRosterCache.invalidate();
+    }
+
+    @Test
+    void getAllSchedules_shouldNotGrowWithScheduleCount() throws Exception {
+        long before = warmQueryCount(get("/api/meal-schedules"));
+        addSchedules(MEAL_DATE.plusDays(1), 3);
+        long after = warmQueryCount(get("/api/meal-schedules"));
+
+        assertEquals(2, before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    void getSchedulesByDate_shouldUseFixedStatements() throws Exception {
+        assertEquals(1, warmQueryCount(get("/api/meal-schedules/date/" + MEAL_DATE)));
+    }
+
+    @Test
+    void participantLists_shouldUseFixedStatements() throws Exception {
+        Long scheduleId = schedules.get(0).getId();
+
+        // 사용자와 조인한 DTO 프로젝션 한 번 (참여자 수와 무관)
+        assertEquals(1, warmQueryCount(get("/api/meal-schedules/" + scheduleId + "/participants")));
+        assertEquals(1, warmQueryCount(get("/api/meal-schedules/" + scheduleId + "/participants/checked")));
+        assertEquals(1, warmQueryCount(get("/api/meal-schedules/" + scheduleId + "/participants/unchecked")));
+    }
+
+    @Test
+    void myHistory_shouldUseFixedStatements() throws Exception {
+        assertEquals(1, warmQueryCount(get("/api/meal-schedules/history/my")
+            .param("startDate", MEAL_DATE.toString())
+            .param("endDate", MEAL_DATE.toString())));
+    }
+
+    @Test
+    void check_shouldUseFixedStatements() throws Exception {
+        Long scheduleId = schedules.get(0).getId();
+        // 이미 수령한 사용자의 재체크: 스케줄 조회, INSERT IGNORE, 조건부 UPDATE, 메모 갱신, 참여 정보 조회
+        assertEquals(5, warmQueryCount(post("/api/meal-schedules/" + scheduleId + "/check")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userId\":" + users.get(0).getId() + "}")));
+    }
+
+    // 캐시를 채우는 첫 요청은 버리고, 두 번째 요청의 SQL 문 수를 반환
+    private long warmQueryCount(MockHttpServletRequestBuilder request) throws Exception {
+        RequestBuilder authenticated = request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        mockMvc.perform(authenticated).andExpect(status().is2xxSuccessful());
+        String count = mockMvc.perform(authenticated)
+            .andExpect(status().is2xxSuccessful())
+            .andReturn()
+            .getResponse()
+            .getHeader(QueryCountFilter.COUNT_HEADER);
+        return Long.parseLong(count);
+    }
+
+    // 날짜별 식사 종류마다 스케줄을 만들고, 사용자 절반은 수령 처리
+    private void addSchedules(LocalDate mealDate, int count) {
+        MealType[] mealTypes = MealType.values();
+        for (int i = 0; i < count; i++) {
+            MealSchedule schedule = new MealSchedule();
+            schedule.setMealDate(mealDate);
+            schedule.setMealType(mealTypes[i % mealTypes.length]);
+            schedule.setCreatedBy(users.get(0));
+            schedule = scheduleRepository.save(schedule);
+            schedules.add(schedule);
+            for (int u = 0; u < USER_COUNT; u += 2) {
+                MealScheduleParticipant participant = new MealScheduleParticipant();
+                participant.setSchedule(schedule);
+                participant.setUser(users.get(u));
+                participant.setChecked(true);
+                participantRepository.save(participant);
+            }
+        }
+    }
+}
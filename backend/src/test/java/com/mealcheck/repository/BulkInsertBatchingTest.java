@@ -0,0 +1,108 @@
+package com.mealcheck.repository;
+
+import com.mealcheck.config.QueryCounter;
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 INSERT 가 행마다 한 문장이 아니라 JDBC batch 로 전송되는지 SQL 실행 횟수로 확인합니다.
+ * (QueryCounter 는 executeBatch 를 한 번으로 셉니다)
+ */
+@SpringBootTest
+@Transactional
+class BulkInsertBatchingTest {
+
+    private static final int ROWS = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealScheduleRepository scheduleRepository;
+
+    @Autowired
+    private MealScheduleParticipantBatchRepository participantBatchRepository;
+
+    @Autowired
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            User user = new User();
+            user.setUsername("bulk" + i);
+            user.setName("bulk" + i);
+            user.setPassword("encoded");
+            user.setDepartment("Dev");
+            user.setApproved(true);
+            users.add(user);
+        }
+    }
+
+    @Test
+    void saveAll_shouldInsertPooledIdEntitiesInBatches() {
+        long statements;
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            userRepository.saveAll(users);
+            entityManager.flush();
+            statements = scope.getCount();
+        }
+
+        // INSERT batch 3회 + ID 할당 테이블 조회/갱신 (50개마다 2문장, 최대 3회)
+        int insertBatches = (ROWS + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertTrue(statements >= insertBatches && statements <= insertBatches + 2L * 3,
+            "expected batched inserts but executed " + statements + " statements for " + ROWS + " rows");
+        assertTrue(users.stream().allMatch(user -> user.getId() != null));
+        assertEquals(ROWS, users.stream().map(User::getId).distinct().count());
+    }
+
+    @Test
+    void upsertChecked_shouldSendNewParticipantsAsSingleBatch() {
+        userRepository.saveAll(users);
+        MealSchedule schedule = new MealSchedule();
+        schedule.setMealDate(LocalDate.of(2097, 5, 1));
+        schedule.setMealType(MealType.LUNCH);
+        schedule.setCreatedBy(users.get(0));
+        schedule = scheduleRepository.save(schedule);
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CheckEntry> entries = users.stream()
+            .map(user -> new CheckEntry(user.getId(), null, null, now))
+            .toList();
+
+        Set<Long> changed;
+        long statements;
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            changed = participantBatchRepository.upsertChecked(schedule.getId(), entries);
+            statements = scope.getCount();
+        }
+
+        // 기존 상태 IN 조회 1회 + INSERT IGNORE batch 1회로 끝나고, 모두 새 행이므로 UPDATE 단계는 실행되지 않음
+        assertEquals(2, statements);
+        assertEquals(ROWS, changed.size());
+        assertEquals(ROWS, participantRepository.countByScheduleIdAndCheckedTrue(schedule.getId()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.mealcheck.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 자주 실행되는 리포지토리 조회가 마이그레이션(db/migration)으로 만든 인덱스를 타는지 H2 EXPLAIN 으로 확인합니다.
+ *
+ * SQL 은 각 리포지토리 메서드가 만드는 조건/정렬과 같은 형태로 작성했습니다.
+ * 인덱스를 바꾸거나 조회 조건을 바꿀 때 전체 스캔(tableScan)으로 떨어지면 실패합니다.
+ */
+class HotQueryIndexTest {
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:hot-query-index;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 빈 테이블에서는 인덱스 비용이 같아 선택이 임의로 갈리므로 사용자 명단(20개 부서)을 채우고 통계를 갱신
+        jdbcTemplate.execute("INSERT INTO users (id, username, name, password, department, role, approved, active, created_at, updated_at) "
+            + "SELECT X, 'u' || X, 'name' || X, 'p', 'dept' || MOD(X, 20), 'USER', TRUE, TRUE, NOW(), NOW() FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void participantFindByUserId_shouldUseUserForeignKeyIndex() {
+        // MealScheduleParticipantRepository.findByUserId
+        // 전체 컬럼 조회는 user_id 외래 키 인덱스로 충분 (커버링이 필요한 조회는 아래 테스트)
+        assertUsesIndex("SELECT * FROM meal_schedule_participants WHERE user_id = 1",
+            "FK3UN6BOW28EDLIQ30N1XPTKJ36");
+    }
+
+    @Test
+    void participantHistoryByUserId_shouldUseUserIndex() {
+        // MealScheduleParticipantRepository.findCheckedScheduleIdsByUserId (인덱스만으로 처리)
+        assertUsesIndex("SELECT schedule_id FROM meal_schedule_participants "
+                + "WHERE user_id = 1 AND checked = TRUE AND schedule_id IN (1, 2, 3)",
+            "IDX_PARTICIPANTS_USER_SCHEDULE");
+    }
+
+    @Test
+    void countByScheduleIdAndCheckedTrue_shouldUseScheduleCheckedIndex() {
+        // MealScheduleParticipantRepository.countByScheduleIdAndCheckedTrue
+        assertUsesIndex("SELECT COUNT(id) FROM meal_schedule_participants WHERE schedule_id = 1 AND checked = TRUE",
+            "IDX_PARTICIPANTS_SCHEDULE_CHECKED");
+    }
+
+    @Test
+    void checkedUserIdsByScheduleIds_shouldUseScheduleCheckedIndex() {
+        // MealScheduleParticipantRepository.findCheckedUserIdsByScheduleIds (수령자 인덱스 적재)
+        assertUsesIndex("SELECT schedule_id, user_id FROM meal_schedule_participants "
+                + "WHERE schedule_id IN (1, 2, 3) AND checked = TRUE",
+            "IDX_PARTICIPANTS_SCHEDULE_CHECKED");
+    }
+
+    @Test
+    void findByMealDateGreaterThanEqual_shouldUseDateTypeUniqueKey() {
+        // MealScheduleRepository.findByMealDateGreaterThanEqualOrderByMealDateAsc
+        assertUsesIndex("SELECT * FROM meal_schedules WHERE meal_date >= DATE '2024-01-01' ORDER BY meal_date",
+            "UK6WJH46KL7LL8Q160GVEJKJOOX");
+    }
+
+    @Test
+    void findByActiveTrue_shouldUseActiveIndex() {
+        // MealScheduleRepository.findByActiveTrue
+        assertUsesIndex("SELECT * FROM meal_schedules WHERE active = TRUE",
+            "IDX_SCHEDULES_ACTIVE_DATE");
+    }
+
+    @Test
+    void mealCheckCountByDateAndType_shouldUseDateTypeIndex() {
+        // MealCheckRepository.countCheckedByDateAndType
+        assertUsesIndex("SELECT COUNT(id) FROM meal_checks "
+                + "WHERE meal_date = DATE '2024-01-01' AND meal_type = 'LUNCH' AND checked = TRUE",
+            "IDX_MEAL_CHECKS_DATE_TYPE");
+    }
+
+    @Test
+    void userFindByApprovedTrue_shouldUseApprovedIndex() {
+        // UserRepository.findByApprovedTrue (사용자 명단 캐시 적재)
+        assertUsesIndex("SELECT * FROM users WHERE approved = TRUE",
+            "IDX_USERS_APPROVED_ACTIVE");
+    }
+
+    @Test
+    void userDirectoryPage_shouldUseNameIndex() {
+        // UserRepository.findDirectoryPage (부서 필터 없음, 이름 접두어 + 커서)
+        assertUsesIndex("SELECT id, username, name, department, role, active FROM users "
+                + "WHERE approved = TRUE AND username <> 'demo_admin' AND name LIKE 'kim%' "
+                + "AND (name > 'kim' OR (name = 'kim' AND id > 10)) ORDER BY name, id LIMIT 51",
+            "IDX_USERS_DIRECTORY_NAME");
+    }
+
+    @Test
+    void userDirectoryPageByDepartment_shouldUseDepartmentIndex() {
+        // UserRepository.findDirectoryPage (부서 필터)
+        assertUsesIndex("SELECT id, username, name, department, role, active FROM users "
+                + "WHERE approved = TRUE AND username <> 'demo_admin' AND department = 'dept3' "
+                + "AND (name > '' OR (name = '' AND id > 0)) ORDER BY name, id LIMIT 51",
+            "IDX_USERS_DIRECTORY_DEPARTMENT");
+    }
+
+    private static void assertUsesIndex(String sql, String indexName) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertTrue(plan.toUpperCase().contains(indexName), () -> "expected index " + indexName + " but plan was:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "unexpected table scan:\n" + plan);
+    }
+}
@@ -0,0 +1,103 @@
+package com.mealcheck.repository;
+
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.entity.MealScheduleParticipant;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * rewriteBatchedStatements 로 INSERT batch 가 합쳐져 행별 건수가 SUCCESS_NO_INFO 로 오는 경우에도
+ * 기존 미수령 행이 수령으로 전환되고, 실제로 바뀐 사용자만 반환되는지 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+class MealScheduleParticipantBatchRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void upsertChecked_shouldTransitionExistingRowsWhenInsertCountsAreUnknown() {
+        User unchecked = user("nsi-unchecked");
+        User checked = user("nsi-checked");
+        User absent = user("nsi-absent");
+        MealSchedule schedule = new MealSchedule();
+        schedule.setMealDate(LocalDate.of(2097, 6, 1));
+        schedule.setMealType(MealType.LUNCH);
+        schedule.setCreatedBy(unchecked);
+        entityManager.persist(schedule);
+        participant(schedule, unchecked, false);
+        participant(schedule, checked, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Connector/J 가 여러 행 INSERT 로 합친 batch 처럼 INSERT 건수를 모두 SUCCESS_NO_INFO 로 반환
+        JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        doAnswer(invocation -> {
+            int[] counts = (int[]) invocation.callRealMethod();
+            if (invocation.<String>getArgument(0).startsWith("INSERT")) {
+                Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            }
+            return counts;
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        MealScheduleParticipantBatchRepository batchRepository = new MealScheduleParticipantBatchRepository(jdbcTemplate);
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> changed = batchRepository.upsertChecked(schedule.getId(), List.of(
+            new CheckEntry(unchecked.getId(), "Dev", "memo", now),
+            new CheckEntry(checked.getId(), "Dev", "memo", now),
+            new CheckEntry(absent.getId(), "Dev", null, now)));
+
+        assertEquals(Set.of(unchecked.getId(), absent.getId()), changed);
+        assertEquals(3, participantRepository.countByScheduleIdAndCheckedTrue(schedule.getId()));
+        assertEquals("memo", participantRepository.findByScheduleIdAndUserId(schedule.getId(), checked.getId())
+            .orElseThrow().getNote());
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(username);
+        user.setPassword("encoded");
+        user.setDepartment("Dev");
+        user.setApproved(true);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void participant(MealSchedule schedule, User user, boolean checked) {
+        MealScheduleParticipant participant = new MealScheduleParticipant();
+        participant.setSchedule(schedule);
+        participant.setUser(user);
+        participant.setChecked(checked);
+        entityManager.persist(participant);
+    }
+}
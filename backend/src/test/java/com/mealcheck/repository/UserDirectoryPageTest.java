@@ -0,0 +1,92 @@
+package com.mealcheck.repository;
+
+import com.mealcheck.config.QueryCounter;
+import com.mealcheck.dto.UserDirectoryEntryDTO;
+import com.mealcheck.dto.UserDirectoryPageDTO;
+import com.mealcheck.entity.User;
+import com.mealcheck.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자 디렉터리 키셋 페이지가 필터를 DB 에서 적용하고, 페이지마다 SQL 한 번으로
+ * 이름·ID 순서를 빠짐없이 이어 가는지 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+class UserDirectoryPageTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        // 같은 이름(동명이인)이 페이지 경계에 걸치도록 구성
+        String[] names = {"dir 가", "dir 나", "dir 나", "dir 나", "dir 다", "dir 라", "dir 50%"};
+        for (int i = 0; i < names.length; i++) {
+            users.add(newUser("dir" + i, names[i], i % 2 == 0 ? "DirDev" : "DirOps", true, i != 4));
+        }
+        users.add(newUser("dir-pending", "dir 마", "DirDev", false, true));
+        userRepository.saveAll(users);
+        userRepository.flush();
+    }
+
+    @Test
+    void pages_shouldWalkAllApprovedUsersInNameOrderWithOneQueryEach() {
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            UserDirectoryPageDTO page;
+            try (QueryCounter.Scope scope = QueryCounter.start()) {
+                page = userService.getUserDirectoryPage(null, null, null, "dir ", cursor, 2);
+                assertEquals(1, scope.getCount());
+            }
+            assertTrue(page.getContent().size() <= 2);
+            page.getContent().forEach(entry -> usernames.add(entry.getUsername()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // 승인 대기 사용자 제외, (name, id) 순
+        assertEquals(List.of("dir6", "dir0", "dir1", "dir2", "dir3", "dir4", "dir5"), usernames);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void filters_shouldBeAppliedInQuery() {
+        List<UserDirectoryEntryDTO> devActive = userService.getUserDirectoryPage("DirDev", true, "USER", null, null, 50).getContent();
+        assertEquals(List.of("dir6", "dir0", "dir2"), devActive.stream().map(UserDirectoryEntryDTO::getUsername).toList());
+
+        List<UserDirectoryEntryDTO> inactive = userService.getUserDirectoryPage(null, false, null, "dir", null, 50).getContent();
+        assertEquals(List.of("dir4"), inactive.stream().map(UserDirectoryEntryDTO::getUsername).toList());
+
+        // 접두어의 % 는 와일드카드가 아니라 문자로 비교
+        List<UserDirectoryEntryDTO> percent = userService.getUserDirectoryPage(null, null, null, "dir 50%", null, 50).getContent();
+        assertEquals(List.of("dir6"), percent.stream().map(UserDirectoryEntryDTO::getUsername).toList());
+        assertTrue(userService.getUserDirectoryPage(null, null, null, "dir 5%", null, 50).getContent().isEmpty());
+    }
+
+    private User newUser(String username, String name, String department, boolean approved, boolean active) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(name);
+        user.setPassword("encoded");
+        user.setDepartment(department);
+        user.setApproved(approved);
+        user.setActive(active);
+        return user;
+    }
+}
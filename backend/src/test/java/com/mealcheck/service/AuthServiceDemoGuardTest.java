@@ -22,6 +22,12 @@ class AuthServiceDemoGuardTest {
     @Mock
     private DemoAccountGuard demoAccountGuard;
 
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -0,0 +1,176 @@
+package com.mealcheck.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mealcheck.dto.MealScheduleLiveEventDTO;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInEventHubTest {
+
+    @Mock
+    private CheckedUserIndex checkedUserIndex;
+
+    @Mock
+    private CheckInWriteBehindBuffer checkInBuffer;
+
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private CheckedUsers checkedUsers;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CheckInEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new CheckInEventHub(checkedUserIndex, checkInBuffer, userRosterCache, objectMapper);
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 2);
+        lenient().when(checkedUserIndex.get(10L)).thenReturn(checkedUsers);
+        lenient().when(userRosterCache.getActiveUsers())
+            .thenReturn(List.of(new RosterUser(1L, "user1", "Dev", "USER", true, null, null)));
+    }
+
+    @Test
+    void subscribe_shouldSendSnapshotThenCoalescedDelta() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        when(checkedUsers.count()).thenReturn(0L, 1L);
+
+        hub.subscribe(10L, emitter);
+        hub.publish(10L, List.of(1L), List.of());
+        hub.publish(10L, List.of(2L), List.of());
+        hub.publish(10L, List.of(), List.of(2L));
+        hub.sendChanges();
+        // 변경이 없으면 다음 주기에는 아무것도 보내지 않음
+        hub.sendChanges();
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:snapshot"));
+        assertTrue(emitter.events.get(1).contains("event:delta"));
+        MealScheduleLiveEventDTO delta = objectMapper.readValue(
+            emitter.events.get(1).substring(emitter.events.get(1).indexOf('{')).trim(), MealScheduleLiveEventDTO.class);
+        assertEquals(1L, delta.getCheckedCount());
+        assertEquals(1L, delta.getTotalParticipants());
+        // 같은 주기 안의 체크 -> 해제는 마지막 상태만 전달
+        assertEquals(List.of(1L), delta.getCheckedUserIds());
+        assertEquals(List.of(2L), delta.getUncheckedUserIds());
+    }
+
+    @Test
+    void publish_shouldIgnoreSchedulesWithoutSubscribers() {
+        hub.publish(20L, List.of(1L), List.of());
+        hub.sendChanges();
+
+        verifyNoInteractions(checkedUserIndex);
+    }
+
+    @Test
+    void subscribe_shouldLimitSubscribersAndReleaseOnFailure() {
+        when(checkedUsers.count()).thenReturn(0L);
+        hub.subscribe(10L, new RecordingEmitter());
+        RecordingEmitter broken = new RecordingEmitter();
+        hub.subscribe(10L, broken);
+
+        assertThrows(RuntimeException.class, () -> hub.subscribe(10L, new RecordingEmitter()));
+
+        // 끊어진 연결은 heartbeat 실패 시 정리되어 자리가 남
+        broken.fail = true;
+        hub.sendHeartbeat();
+        assertEquals(1, hub.getSubscriberCount());
+        hub.subscribe(10L, new RecordingEmitter());
+        assertEquals(2, hub.getSubscriberCount());
+    }
+
+    @Test
+    void flush_shouldSendOnSenderThreadWithoutBlockingScheduler() throws Exception {
+        when(checkedUsers.count()).thenReturn(0L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<String> deltaThreads = new CopyOnWriteArrayList<>();
+        SseEmitter slowClient = new SseEmitter() {
+            private boolean snapshotSent;
+
+            @Override
+            public void send(SseEventBuilder builder) {
+                if (!snapshotSent) {
+                    snapshotSent = true;
+                    return;
+                }
+                // 응답이 느린 클라이언트
+                deltaThreads.add(Thread.currentThread().getName());
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.countDown();
+            }
+        };
+        hub.init();
+        try {
+            hub.subscribe(10L, slowClient);
+            hub.publish(10L, List.of(1L), List.of());
+
+            // 전송이 끝나지 않아도 스케줄러 스레드는 바로 돌아옴
+            hub.flush();
+            hub.flush();
+            release.countDown();
+
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("check-in-events-sender"), deltaThreads);
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void event_shouldIncludePendingWriteBehindChecks() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CheckedUsers withPending = mock(CheckedUsers.class);
+        when(checkInBuffer.pending(10L))
+            .thenReturn(Map.of(1L, new CheckInWriteBehindBuffer.PendingCheck(true, null, null)));
+        when(checkedUsers.with(Map.of(1L, true))).thenReturn(withPending);
+        when(withPending.count()).thenReturn(1L);
+
+        hub.subscribe(10L, emitter);
+
+        assertTrue(emitter.events.get(0).contains("\"checkedCount\":1"));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("broken pipe");
+            }
+            events.add(builder.build().stream()
+                .map(data -> data.getData().toString())
+                .collect(Collectors.joining()));
+        }
+    }
+}
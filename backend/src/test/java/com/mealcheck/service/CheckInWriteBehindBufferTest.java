@@ -0,0 +1,221 @@
+package com.mealcheck.service;
+
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.repository.MealScheduleRepository;
+import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.CheckInWriteBehindBuffer.PendingCheck;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInWriteBehindBufferTest {
+
+    @Mock
+    private MealScheduleParticipantBatchRepository participantBatchRepository;
+
+    @Mock
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Mock
+    private MealScheduleRepository scheduleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private MealRollupService mealRollupService;
+
+    @Mock
+    private CheckedUserIndex checkedUserIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MealCheckMetrics metrics;
+
+    @Mock
+    private CheckedUsers committed;
+
+    @Captor
+    private ArgumentCaptor<List<CheckEntry>> checked;
+
+    @Captor
+    private ArgumentCaptor<List<CheckEntry>> unchecked;
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void record_shouldFailWhenDisabled() {
+        CheckInWriteBehindBuffer disabled = newBuffer();
+
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.pending(10L).isEmpty());
+        assertThrows(IllegalStateException.class, () -> disabled.record(10L, 1L, true, null));
+    }
+
+    @Test
+    void record_shouldReportWhetherEffectiveStateChanged() throws IOException {
+        // DB 에는 user1 만 수령 상태
+        when(committed.contains(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) == 1L);
+
+        CheckInWriteBehindBuffer buffer = start();
+
+        assertFalse(buffer.record(10L, 1L, true, "again").isChanged());
+        assertTrue(buffer.record(10L, 1L, false, null).isChanged());
+        // 반영되지 않은 해제 위에 다시 해제
+        assertFalse(buffer.record(10L, 1L, false, null).isChanged());
+        assertTrue(buffer.record(10L, 2L, true, null).isChanged());
+        assertFalse(buffer.record(10L, 2L, true, "memo").isChanged());
+    }
+
+    @Test
+    void init_shouldReplayJournalAfterCrash() throws IOException {
+        CheckInWriteBehindBuffer buffer = start();
+        buffer.record(10L, 1L, true, "tab\there");
+        buffer.record(10L, 2L, true, null);
+        buffer.record(10L, 2L, false, null);
+        buffer.record(20L, 3L, true, "\\N");
+
+        // flush 없이 종료된 것처럼 같은 디렉터리로 새 인스턴스를 기동
+        CheckInWriteBehindBuffer restarted = start();
+
+        Map<Long, PendingCheck> schedule10 = restarted.pending(10L);
+        assertEquals(2, schedule10.size());
+        assertTrue(schedule10.get(1L).isChecked());
+        assertEquals("tab\there", schedule10.get(1L).getNote());
+        assertFalse(schedule10.get(2L).isChecked());
+        assertEquals("\\N", restarted.pending(20L).get(3L).getNote());
+    }
+
+    @Test
+    void flush_shouldBatchPendingChecksAndDeleteJournal() throws IOException {
+        MealSchedule schedule = new MealSchedule();
+        schedule.setId(10L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(userRosterCache.findApprovedUser(anyLong()))
+            .thenAnswer(invocation -> Optional.of(new RosterUser(invocation.getArgument(0), "user", "Dev", "USER", true, null, null)));
+        when(participantBatchRepository.upsertChecked(eq(10L), anyList())).thenReturn(Set.of(1L));
+        when(participantBatchRepository.markUnchecked(eq(10L), anyList())).thenReturn(Set.of(2L));
+        // user2 는 Sales 소속일 때 수령 처리됨
+        when(participantRepository.findDepartmentsByScheduleIdAndUserIds(10L, Set.of(2L)))
+            .thenReturn(List.<Object[]>of(new Object[]{2L, "Sales"}));
+
+        CheckInWriteBehindBuffer buffer = start();
+        buffer.record(10L, 1L, true, "memo");
+        buffer.record(10L, 2L, false, null);
+        buffer.flush();
+
+        verify(participantBatchRepository).upsertChecked(eq(10L), checked.capture());
+        verify(participantBatchRepository).markUnchecked(eq(10L), unchecked.capture());
+        assertEquals(1L, checked.getValue().get(0).getUserId());
+        assertEquals("memo", checked.getValue().get(0).getNote());
+        assertEquals("Dev", checked.getValue().get(0).getDepartment());
+        assertEquals(2L, unchecked.getValue().get(0).getUserId());
+        verify(mealRollupService).applyChanges(schedule, List.of("Dev"), List.of("Sales"));
+        verify(checkedUserIndex).markChecked(10L, Set.of(1L));
+        verify(checkedUserIndex).markUnchecked(10L, Set.of(2L));
+
+        assertTrue(buffer.pending(10L).isEmpty());
+        // 반영된 세그먼트는 지워지고 새로 연 세그먼트만 남음
+        assertEquals(1, journalFiles().size());
+        assertTrue(start().pending(10L).isEmpty());
+    }
+
+    @Test
+    void pending_shouldIncludeChecksBeingFlushedUntilCommit() throws IOException {
+        MealSchedule schedule = new MealSchedule();
+        schedule.setId(10L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(userRosterCache.findApprovedUser(anyLong()))
+            .thenAnswer(invocation -> Optional.of(new RosterUser(invocation.getArgument(0), "user", "Dev", "USER", true, null, null)));
+        when(participantBatchRepository.markUnchecked(eq(10L), anyList())).thenReturn(Set.of());
+
+        CheckInWriteBehindBuffer buffer = start();
+        buffer.record(10L, 1L, true, "memo");
+        List<Map<Long, PendingCheck>> seenDuringWrite = new ArrayList<>();
+        when(participantBatchRepository.upsertChecked(eq(10L), anyList())).thenAnswer(invocation -> {
+            // DB 에 쓰는 도중 들어온 조회와 새 변경
+            seenDuringWrite.add(buffer.pending(10L));
+            buffer.record(10L, 2L, true, null);
+            return Set.of(1L);
+        });
+        buffer.flush();
+
+        assertEquals("memo", seenDuringWrite.get(0).get(1L).getNote());
+        // 커밋된 변경은 빠지고 flush 이후의 변경만 남음
+        assertEquals(Set.of(2L), buffer.pending(10L).keySet());
+        assertEquals(Set.of(2L), buffer.pending(List.of(10L)).get(10L).keySet());
+    }
+
+    @Test
+    void flush_shouldRequeueWhenWriteFails() throws IOException {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(scheduleRepository.findById(10L)).thenThrow(new IllegalStateException("db down"));
+        when(scheduleRepository.existsById(10L)).thenReturn(true);
+
+        CheckInWriteBehindBuffer buffer = start();
+        buffer.record(10L, 1L, true, null);
+        buffer.flush();
+
+        assertTrue(buffer.pending(10L).get(1L).isChecked());
+        // 반영되지 않은 세그먼트는 남겨둠
+        assertEquals(2, journalFiles().size());
+    }
+
+    private CheckInWriteBehindBuffer newBuffer() {
+        return new CheckInWriteBehindBuffer(participantBatchRepository, participantRepository, scheduleRepository, userRepository,
+            userRosterCache, mealRollupService, checkedUserIndex, transactionManager, metrics);
+    }
+
+    private CheckInWriteBehindBuffer start() throws IOException {
+        lenient().when(checkedUserIndex.get(anyLong())).thenReturn(committed);
+        CheckInWriteBehindBuffer started = newBuffer();
+        ReflectionTestUtils.setField(started, "enabled", true);
+        ReflectionTestUtils.setField(started, "journalDir", journalDir.toString());
+        started.init();
+        return started;
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.mealcheck.service;
+
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.service.CheckedUserIndex.CheckedUsers;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckedUserIndexTest {
+
+    @Mock
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CheckedUserIndex checkedUserIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(checkedUserIndex, "maxSchedules", 2);
+    }
+
+    @Test
+    void get_shouldLoadOnceAndApplyChecks() {
+        when(participantRepository.findCheckedUserIdsByScheduleIds(List.of(10L)))
+            .thenReturn(List.<Object[]>of(new Object[]{10L, 1L}));
+
+        assertEquals(1, checkedUserIndex.get(10L).count());
+        checkedUserIndex.markChecked(10L, List.of(2L, 3L));
+        checkedUserIndex.markUnchecked(10L, List.of(1L));
+
+        CheckedUsers checked = checkedUserIndex.get(10L);
+        assertEquals(2, checked.count());
+        assertFalse(checked.contains(1L));
+        assertTrue(checked.contains(3L));
+        assertFalse(checked.contains(99L));
+        verify(participantRepository, times(1)).findCheckedUserIdsByScheduleIds(anyCollection());
+    }
+
+    @Test
+    void get_shouldNotCacheWhenChangedDuringLoad() {
+        when(participantRepository.findCheckedUserIdsByScheduleIds(List.of(10L))).thenAnswer(invocation -> {
+            // 적재 쿼리가 끝나기 전에 다른 요청의 체크가 커밋된 상황
+            checkedUserIndex.markChecked(10L, List.of(2L));
+            return List.<Object[]>of(new Object[]{10L, 1L});
+        });
+
+        assertEquals(1, checkedUserIndex.get(10L).count());
+        assertTrue(checkedUserIndex.getLoaded(List.of(10L)).isEmpty());
+    }
+
+    @Test
+    void uncheckedActiveUsers_shouldBeRosterMinusChecked() {
+        List<RosterUser> roster = List.of(rosterUser(1L), rosterUser(2L), rosterUser(3L));
+        when(userRosterCache.getActiveUsers()).thenReturn(roster);
+        when(participantRepository.findCheckedUserIdsByScheduleIds(List.of(10L)))
+            .thenReturn(List.<Object[]>of(new Object[]{10L, 2L}, new Object[]{10L, 4L}));
+
+        CheckedUsers checked = checkedUserIndex.get(10L);
+        assertEquals(List.of(1L, 3L), ids(checkedUserIndex.uncheckedActiveUsers(checked)));
+        assertEquals(List.of(3L), ids(checkedUserIndex.uncheckedActiveUsers(checked.with(Map.of(1L, true, 2L, true)))));
+        assertEquals(List.of(2L, 3L), ids(checkedUserIndex.uncheckedActiveUsers(checked.with(Map.of(1L, true, 2L, false)))));
+    }
+
+    @Test
+    void uncheckedActiveUsers_shouldKeepRosterOrderRegardlessOfOrdinals() {
+        // 4, 2 가 먼저 ordinal 을 받도록 수령자를 먼저 적재
+        when(participantRepository.findCheckedUserIdsByScheduleIds(List.of(10L)))
+            .thenReturn(List.<Object[]>of(new Object[]{10L, 4L}, new Object[]{10L, 2L}));
+        CheckedUsers checked = checkedUserIndex.get(10L);
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(rosterUser(1L), rosterUser(3L), rosterUser(5L), rosterUser(6L)));
+
+        assertEquals(List.of(1L, 3L, 5L, 6L), ids(checkedUserIndex.uncheckedActiveUsers(checked.with(Map.of(6L, false)))));
+    }
+
+    @Test
+    void get_shouldLoadInNewReadCommittedTransaction() {
+        when(participantRepository.findCheckedUserIdsByScheduleIds(List.of(10L))).thenReturn(List.of());
+
+        checkedUserIndex.get(10L);
+
+        // 호출한 트랜잭션의 (적재 이전에 잡힌) 스냅샷이 아니라 새 스냅샷에서 조회
+        verify(transactionManager).getTransaction(argThat(definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED));
+    }
+
+    @Test
+    void get_shouldEvictOldestSchedulesOverLimit() {
+        when(participantRepository.findCheckedUserIdsByScheduleIds(anyCollection())).thenReturn(List.of());
+
+        checkedUserIndex.get(List.of(10L, 11L));
+        checkedUserIndex.get(12L);
+
+        assertEquals(Map.of(), checkedUserIndex.getLoaded(List.of(10L)));
+        assertEquals(2, checkedUserIndex.getLoaded(List.of(10L, 11L, 12L)).size());
+    }
+
+    private static List<Long> ids(List<RosterUser> users) {
+        return users.stream().map(RosterUser::getId).toList();
+    }
+
+    private static RosterUser rosterUser(Long id) {
+        return new RosterUser(id, "user" + id, "Dev", "USER", true, null, null);
+    }
+}
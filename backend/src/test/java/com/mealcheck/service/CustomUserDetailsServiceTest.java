@@ -0,0 +1,86 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.AuthenticatedUser;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "cacheTtlInMs", 60_000L);
+        ReflectionTestUtils.setField(userDetailsService, "cacheMaxSize", 10);
+        userDetailsService.initMetrics();
+    }
+
+    @Test
+    void loadUserByUsername_shouldServeRepeatLookupsFromCache() {
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user("user1", true)));
+
+        AuthenticatedUser first = userDetailsService.loadUserByUsername("user1");
+        first.eraseCredentials();
+        AuthenticatedUser second = userDetailsService.loadUserByUsername("user1");
+
+        // 인증 후 password 가 지워져도 캐시 항목에는 영향이 없어야 함
+        assertEquals("encoded", second.getPassword());
+        verify(userRepository, times(1)).findByUsername("user1");
+        assertEquals(1.0, meterRegistry.get("auth.user.cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.user.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void evictUser_shouldForceReload() {
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user("user1", true)));
+
+        userDetailsService.loadUserByUsername("user1");
+        userDetailsService.evictUser("user1");
+        userDetailsService.loadUserByUsername("user1");
+
+        verify(userRepository, times(2)).findByUsername("user1");
+        assertEquals(1.0, meterRegistry.get("auth.user.cache.evictions").tag("cause", "revoked").counter().count());
+    }
+
+    @Test
+    void loadUserByUsername_shouldRejectUnapprovedUser() {
+        when(userRepository.findByUsername("pending")).thenReturn(Optional.of(user("pending", false)));
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("pending"));
+    }
+
+    private static User user(String username, boolean approved) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername(username);
+        user.setPassword("encoded");
+        user.setRole("USER");
+        user.setApproved(approved);
+        return user;
+    }
+}
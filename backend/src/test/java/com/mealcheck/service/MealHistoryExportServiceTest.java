@@ -0,0 +1,77 @@
+package com.mealcheck.service;
+
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.entity.MealSchedule.MealType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class MealHistoryExportServiceTest {
+
+    @Mock
+    private MealScheduleService scheduleService;
+
+    @InjectMocks
+    private MealHistoryExportService exportService;
+
+    @Test
+    void writeCsv_shouldWriteRowsAndPerUserTotals() throws Exception {
+        LocalDate date = LocalDate.of(2024, 3, 4);
+        doAnswer(invocation -> {
+            Consumer<MealHistoryDTO> sink = invocation.getArgument(2);
+            sink.accept(new MealHistoryDTO(1L, 10L, date, MealType.LUNCH, "점심 \"특식\"",
+                    1L, "홍길동", "개발팀", true, null, LocalDateTime.of(2024, 3, 4, 12, 5)));
+            sink.accept(new MealHistoryDTO(null, 10L, date, MealType.LUNCH, null,
+                    2L, "김철수", "인사팀", false, null, null));
+            sink.accept(new MealHistoryDTO(2L, 11L, date, MealType.DINNER, null,
+                    1L, "홍길동", "개발팀", true, "늦게 수령", LocalDateTime.of(2024, 3, 4, 18, 30)));
+            return null;
+        }).when(scheduleService).streamAllMealHistory(any(), any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeCsv(null, null, exportService.parseStatus("checked"), out);
+        String csv = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(csv.startsWith("\uFEFF\"날짜\""));
+        assertTrue(csv.contains("\"2024-03-04\",\"점심\",\"점심 \"\"특식\"\"\",\"홍길동\",\"개발팀\",\"수령\",\"2024-03-04 12:05\",\"\""));
+        assertFalse(csv.contains("\"김철수\",\"인사팀\",\"미수령\""));
+        assertTrue(csv.contains("\"홍길동\",\"개발팀\",\"0\",\"1\",\"1\",\"2\""));
+    }
+
+    @Test
+    void writeCsv_shouldNeutralizeFormulaCells() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<MealHistoryDTO> sink = invocation.getArgument(2);
+            sink.accept(new MealHistoryDTO(1L, 10L, LocalDate.of(2024, 3, 4), MealType.LUNCH, "+1 추가",
+                    1L, "@홍길동", "-개발팀", true, "=HYPERLINK(\"http://x\")", null));
+            return null;
+        }).when(scheduleService).streamAllMealHistory(any(), any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeCsv(null, null, null, out);
+        String csv = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(csv.contains("\"'+1 추가\",\"'@홍길동\",\"'-개발팀\",\"수령\",\"\",\"'=HYPERLINK(\"\"http://x\"\")\""));
+        assertTrue(csv.contains("\"'@홍길동\",\"'-개발팀\",\"0\",\"1\",\"0\",\"1\""));
+    }
+
+    @Test
+    void parseStatus_shouldRejectUnknownStatus() {
+        assertNull(exportService.parseStatus("all"));
+        assertFalse(exportService.parseStatus("unchecked"));
+        assertThrows(RuntimeException.class, () -> exportService.parseStatus("unknown"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.entity.MealDailyRollup;
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.entity.MealScheduleParticipant;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealDailyRollupRepository;
+import com.mealcheck.service.UserRosterCache.RosterUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * 집계 테이블의 네이티브 upsert 가 H2(MySQL 모드)에서도 동작하는지,
+ * rebuild 결과가 증분 갱신 결과와 같은지 검증합니다.
+ * 사용자 명단은 커밋된 데이터만 읽으므로, 롤백되는 테스트 트랜잭션에서 만든 사용자로 대신합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MealRollupService.class, DemoAccountGuard.class})
+class MealRollupServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private MealRollupService mealRollupService;
+
+    @Autowired
+    private MealDailyRollupRepository rollupRepository;
+
+    @MockBean
+    private UserRosterCache userRosterCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<RosterUser> activeUsers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(userRosterCache.getActiveUsers()).thenAnswer(invocation -> List.copyOf(activeUsers));
+    }
+
+    @Test
+    void incrementAndDecrement_shouldUpsertSingleRowPerDepartment() {
+        User admin = user("admin", "Dev");
+        user("user2", "Dev");
+        MealSchedule schedule = schedule(admin, MealType.LUNCH);
+
+        mealRollupService.increment(schedule, "Dev");
+        mealRollupService.increment(schedule, "Dev");
+        mealRollupService.decrement(schedule, "Dev");
+        // 0 아래로는 내려가지 않음
+        mealRollupService.decrement(schedule, "Dev");
+        mealRollupService.decrement(schedule, "Dev");
+        mealRollupService.increment(schedule, "Dev");
+        entityManager.clear();
+
+        List<MealDailyRollup> rollups = rollupRepository.findByMealDateBetween(DATE, DATE);
+        assertEquals(1, rollups.size());
+        assertEquals(1L, rollups.get(0).getCheckedCount());
+        assertEquals(2L, rollups.get(0).getEligibleCount());
+    }
+
+    @Test
+    void firstAdjust_shouldSeedEveryDepartmentWithEligibleCount() {
+        User admin = user("admin", "Dev");
+        user("sales1", "Sales");
+        user("sales2", "Sales");
+        MealSchedule schedule = schedule(admin, MealType.LUNCH);
+
+        mealRollupService.increment(schedule, "Dev");
+        mealRollupService.increment(schedule, "Dev");
+        entityManager.clear();
+
+        // 체크가 없는 Sales 도 대상 인원에 포함
+        Map<String, Object> stats = mealRollupService.getStatistics(DATE, DATE);
+        assertEquals(3L, stats.get("total"));
+        assertEquals(2L, stats.get("checked"));
+        assertEquals(Map.of("Dev", 2L, "Sales", 0L), stats.get("byDepartment"));
+    }
+
+    @Test
+    void rebuild_shouldCountByDepartmentRecordedAtCheckTime() {
+        User admin = user("admin", "Dev");
+        User moved = user("moved", "Sales");
+        MealSchedule schedule = schedule(admin, MealType.LUNCH);
+        // Dev 소속일 때 수령 처리 후 Sales 로 이동
+        participant(schedule, moved, true).setDepartment("Dev");
+        entityManager.flush();
+
+        mealRollupService.rebuild(DATE, DATE);
+        entityManager.clear();
+
+        assertEquals(Map.of("Dev", 1L, "Sales", 0L), mealRollupService.getStatistics(DATE, DATE).get("byDepartment"));
+    }
+
+    @Test
+    void rebuild_shouldMatchParticipantData() {
+        User admin = user("admin", "Dev");
+        User sales = user("sales1", "Sales");
+        user("sales2", "Sales");
+        MealSchedule lunch = schedule(admin, MealType.LUNCH);
+        MealSchedule dinner = schedule(admin, MealType.DINNER);
+        participant(lunch, admin, true);
+        participant(lunch, sales, true);
+        participant(dinner, sales, false);
+
+        int rows = mealRollupService.rebuild(DATE, DATE);
+        entityManager.clear();
+
+        // 스케줄 2개 × 부서 2개
+        assertEquals(4, rows);
+        Map<String, Object> stats = mealRollupService.getStatistics(DATE, DATE);
+        assertEquals(6L, stats.get("total"));
+        assertEquals(2L, stats.get("checked"));
+        assertEquals(Map.of(MealType.LUNCH, 2L, MealType.DINNER, 0L), stats.get("byType"));
+        assertEquals(Map.of("Dev", 1L, "Sales", 1L), stats.get("byDepartment"));
+    }
+
+    private User user(String username, String department) {
+        User user = new User();
+        user.setUsername(username);
+        user.setName(username);
+        user.setPassword("encoded");
+        user.setDepartment(department);
+        user.setApproved(true);
+        user.setActive(true);
+        entityManager.persist(user);
+        activeUsers.add(RosterUser.from(user));
+        return user;
+    }
+
+    private MealSchedule schedule(User createdBy, MealType mealType) {
+        MealSchedule schedule = new MealSchedule();
+        schedule.setMealDate(DATE);
+        schedule.setMealType(mealType);
+        schedule.setCreatedBy(createdBy);
+        entityManager.persist(schedule);
+        return schedule;
+    }
+
+    private MealScheduleParticipant participant(MealSchedule schedule, User user, boolean checked) {
+        MealScheduleParticipant participant = new MealScheduleParticipant();
+        participant.setSchedule(schedule);
+        participant.setUser(user);
+        participant.setChecked(checked);
+        entityManager.persist(participant);
+        return participant;
+    }
+}
@@ -0,0 +1,167 @@
+package com.mealcheck.service;
+
+import com.mealcheck.dto.MealScheduleBatchCheckRequest;
+import com.mealcheck.dto.MealScheduleBatchCheckResultDTO;
+import com.mealcheck.entity.MealDailyRollup;
+import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
+import com.mealcheck.entity.MealScheduleParticipant;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealDailyRollupRepository;
+import com.mealcheck.repository.MealScheduleParticipantRepository;
+import com.mealcheck.repository.MealScheduleRepository;
+import com.mealcheck.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 점심 시간대처럼 같은 스케줄에 체크 요청이 몰릴 때
+ * (같은 사용자의 중복 탭 포함) 오류 없이 정확한 결과가 남는지 H2 에서 검증합니다.
+ */
+@SpringBootTest
+class MealScheduleCheckInConcurrencyTest {
+
+    private static final LocalDate MEAL_DATE = LocalDate.of(2099, 1, 2);
+    private static final int USER_COUNT = 50;
+    private static final int REQUEST_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private MealScheduleService mealScheduleService;
+
+    @Autowired
+    private UserRosterCache userRosterCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealScheduleRepository scheduleRepository;
+
+    @Autowired
+    private MealScheduleParticipantRepository participantRepository;
+
+    @Autowired
+    private MealDailyRollupRepository rollupRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private MealSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUsername("rush" + i);
+            user.setName("rush" + i);
+            user.setPassword("encoded");
+            user.setDepartment(i % 2 == 0 ? "Dev" : "Sales");
+            user.setApproved(true);
+            user.setActive(true);
+            users.add(userRepository.save(user));
+        }
+        userRosterCache.invalidate();
+
+        schedule = new MealSchedule();
+        schedule.setMealDate(MEAL_DATE);
+        schedule.setMealType(MealType.LUNCH);
+        schedule.setCreatedBy(users.get(0));
+        schedule = scheduleRepository.save(schedule);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll(participantRepository.findByScheduleId(schedule.getId()));
+        rollupRepository.deleteAll();
+        scheduleRepository.delete(schedule);
+        userRepository.deleteAll(users);
+        userRosterCache.invalidate();
+    }
+
+    @Test
+    void checkParticipant_shouldHandleParallelTapsWithoutErrors() throws Exception {
+        // 수령자 인덱스를 먼저 적재해 두고, 이후 체크가 인덱스에도 반영되는지 함께 확인
+        assertEquals(USER_COUNT, uncheckedTestUserCount());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                Long userId = users.get(i % USER_COUNT).getId();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mealScheduleService.checkParticipant(schedule.getId(), userId, null);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                // 예외가 있으면 ExecutionException 으로 테스트 실패
+                assertNotNull(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<MealScheduleParticipant> participants = participantRepository.findByScheduleId(schedule.getId());
+        assertEquals(USER_COUNT, participants.size());
+        assertTrue(participants.stream().allMatch(MealScheduleParticipant::getChecked));
+        assertEquals(0, uncheckedTestUserCount());
+
+        // 중복 탭이 집계에 여러 번 반영되지 않아야 함 (집계 테이블에는 이 테스트의 스케줄만 존재)
+        List<MealDailyRollup> rollups = rollupRepository.findAll();
+        assertEquals(USER_COUNT, rollups.stream().mapToLong(MealDailyRollup::getCheckedCount).sum());
+        assertEquals(USER_COUNT / 2, rollups.stream()
+            .filter(rollup -> "Dev".equals(rollup.getDepartment()))
+            .mapToLong(MealDailyRollup::getCheckedCount)
+            .sum());
+    }
+
+    @Test
+    void checkParticipants_shouldCheckWholeQueueInOneBatch() {
+        User inactive = users.get(1);
+        inactive.setActive(false);
+        userRepository.save(inactive);
+        userRosterCache.invalidate();
+        mealScheduleService.checkParticipant(schedule.getId(), users.get(0).getId(), null);
+
+        List<MealScheduleBatchCheckRequest.Entry> entries = new ArrayList<>();
+        for (User user : users) {
+            entries.add(new MealScheduleBatchCheckRequest.Entry(user.getId(), "batch"));
+        }
+        List<MealScheduleBatchCheckResultDTO> results = mealScheduleService.checkParticipants(schedule.getId(), entries);
+
+        assertEquals(USER_COUNT, results.size());
+        assertTrue(results.get(0).getAlreadyChecked());
+        assertFalse(results.get(1).getSuccess());
+        assertEquals(USER_COUNT - 1, results.stream().filter(MealScheduleBatchCheckResultDTO::getSuccess).count());
+
+        List<MealScheduleParticipant> participants = participantRepository.findByScheduleId(schedule.getId());
+        assertEquals(USER_COUNT - 1, participants.size());
+        assertTrue(participants.stream().allMatch(p -> p.getChecked() && "batch".equals(p.getNote())));
+        assertEquals(USER_COUNT - 1, rollupRepository.findAll().stream().mapToLong(MealDailyRollup::getCheckedCount).sum());
+    }
+
+    // 초기 데이터(admin 등)를 제외한 이 테스트 사용자 중 미수령 인원
+    private long uncheckedTestUserCount() {
+        Set<Long> userIds = users.stream().map(User::getId).collect(Collectors.toSet());
+        return mealScheduleService.getUncheckedParticipants(schedule.getId()).stream()
+            .filter(participant -> userIds.contains(participant.getUserId()))
+            .count();
+    }
+}
@@ -2,6 +2,7 @@ package com.mealcheck.service;
 
 import com.mealcheck.config.DemoAccountGuard;
 import com.mealcheck.dto.MealScheduleDTO;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
 import com.mealcheck.repository.MealScheduleParticipantRepository;
 import com.mealcheck.repository.MealScheduleRepository;
 import com.mealcheck.repository.UserRepository;
@@ -31,6 +32,27 @@ class MealScheduleServiceDemoGuardTest {
     @Mock
     private DemoAccountGuard demoAccountGuard;
 
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private MealRollupService mealRollupService;
+
+    @Mock
+    private MealScheduleParticipantBatchRepository participantBatchRepository;
+
+    @Mock
+    private CheckInWriteBehindBuffer checkInBuffer;
+
+    @Mock
+    private CheckedUserIndex checkedUserIndex;
+
+    @Mock
+    private CheckInEventHub checkInEventHub;
+
+    @Mock
+    private MealCheckMetrics metrics;
+
     @InjectMocks
     private MealScheduleService mealScheduleService;
 
@@ -1,25 +1,51 @@
 package com.mealcheck.service;
 
 import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.dto.MealHistoryDTO;
+import com.mealcheck.dto.MealHistoryPageDTO;
+import com.mealcheck.dto.MealScheduleBatchCheckRequest;
+import com.mealcheck.dto.MealScheduleBatchCheckResultDTO;
 import com.mealcheck.dto.MealScheduleDTO;
+import com.mealcheck.dto.MealScheduleParticipantDTO;
+import com.mealcheck.dto.MealScheduleRecurrenceRequest;
+import com.mealcheck.dto.MealScheduleRecurrenceResultDTO;
 import com.mealcheck.entity.MealSchedule;
+import com.mealcheck.entity.MealSchedule.MealType;
 import com.mealcheck.entity.MealScheduleParticipant;
 import com.mealcheck.entity.User;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository;
+import com.mealcheck.repository.MealScheduleParticipantBatchRepository.CheckEntry;
 import com.mealcheck.repository.MealScheduleParticipantRepository;
 import com.mealcheck.repository.MealScheduleRepository;
 import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.CheckInWriteBehindBuffer.PendingCheck;
+import com.mealcheck.service.CheckInWriteBehindBuffer.Recorded;
+import com.mealcheck.service.UserRosterCache.RosterUser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +63,39 @@ class MealScheduleServiceTest {
     @Mock
     private DemoAccountGuard demoAccountGuard;
 
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private MealRollupService mealRollupService;
+
+    @Mock
+    private MealScheduleParticipantBatchRepository participantBatchRepository;
+
+    @Mock
+    private CheckInWriteBehindBuffer checkInBuffer;
+
+    @Mock
+    private CheckedUserIndex checkedUserIndex;
+
+    @Mock
+    private CheckInEventHub checkInEventHub;
+
+    @Mock
+    private MealCheckMetrics metrics;
+
+    @Mock
+    private HolidayCalendar holidayCalendar;
+
     @InjectMocks
     private MealScheduleService mealScheduleService;
 
+    @Captor
+    private ArgumentCaptor<List<CheckEntry>> checkEntries;
+
+    @Captor
+    private ArgumentCaptor<List<MealSchedule>> savedSchedules;
+
     @Test
     void getSchedulesByDate_withUserId_shouldSetCurrentUserChecked() {
         User user = new User();
@@ -53,23 +109,176 @@ class MealScheduleServiceTest {
 
         when(scheduleRepository.findByMealDate(any(LocalDate.class)))
                 .thenReturn(Collections.singletonList(schedule));
-        when(userRepository.findByApprovedTrue()).thenReturn(Collections.singletonList(user));
-        when(participantRepository.countByScheduleIdAndCheckedTrue(10L)).thenReturn(1L);
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(rosterUser(1L)));
+        when(participantRepository.countCheckedByScheduleIds(List.of(10L)))
+                .thenReturn(Collections.singletonList(new Object[]{10L, 1L}));
+        when(participantRepository.findCheckedScheduleIdsByUserId(1L, List.of(10L))).thenReturn(List.of(10L));
+
+        var result = mealScheduleService.getSchedulesByDate(LocalDate.now(), 1L);
+
+        assertEquals(1, result.size());
+        MealScheduleDTO dto = result.get(0);
+        assertTrue(dto.getCurrentUserChecked());
+        assertEquals(1L, dto.getCheckedCount());
+        assertEquals(1L, dto.getTotalParticipants());
+    }
+
+    @Test
+    void createRecurringSchedules_shouldSkipHolidaysAndExistingWithSingleRangeQuery() {
+        User admin = new User();
+        admin.setId(1L);
+        // 2098-03-03(월) ~ 03-09(일), 03-05(수) 는 공휴일, 03-03 점심은 이미 등록됨
+        LocalDate monday = LocalDate.of(2098, 3, 3);
+        LocalDate holiday = monday.plusDays(2);
+        MealSchedule existing = new MealSchedule();
+        existing.setId(100L);
+        existing.setMealDate(monday);
+        existing.setMealType(MealType.LUNCH);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(admin));
+        when(scheduleRepository.findByMealDateBetween(monday, monday.plusDays(6))).thenReturn(List.of(existing));
+        when(holidayCalendar.isHoliday(any(LocalDate.class))).thenAnswer(invocation -> holiday.equals(invocation.getArgument(0)));
+        when(scheduleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MealScheduleRecurrenceRequest request = new MealScheduleRecurrenceRequest(
+            monday, monday.plusDays(6), null, Set.of(MealType.DINNER, MealType.LUNCH), "정기 식사", true);
+        MealScheduleRecurrenceResultDTO result = mealScheduleService.createRecurringSchedules(request, 1L);
+
+        // 평일 5일 - 공휴일 1일 = 4일 × 2끼 - 기존 1건
+        assertEquals(7, result.getCreated().size());
+        assertEquals(1, result.getSkippedExisting());
+        assertEquals(List.of(holiday), result.getSkippedHolidays());
+        assertEquals(MealType.DINNER, result.getCreated().get(0).getMealType());
+        verify(scheduleRepository, times(1)).findByMealDateBetween(monday, monday.plusDays(6));
+        verify(scheduleRepository, times(1)).saveAll(savedSchedules.capture());
+        assertTrue(savedSchedules.getValue().stream().noneMatch(schedule -> schedule.getMealDate().getDayOfWeek().getValue() > 5));
+        assertTrue(savedSchedules.getValue().stream().noneMatch(schedule -> holiday.equals(schedule.getMealDate())));
+        verify(scheduleRepository, never()).findByMealDateAndMealType(any(), any());
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    void createRecurringSchedules_shouldRejectInvertedRange() {
+        MealScheduleRecurrenceRequest request = new MealScheduleRecurrenceRequest(
+            LocalDate.of(2098, 3, 2), LocalDate.of(2098, 3, 1), null, Set.of(MealType.LUNCH), null, true);
+
+        assertThrows(RuntimeException.class, () -> mealScheduleService.createRecurringSchedules(request, 1L));
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    void getAllSchedules_shouldUseConstantNumberOfQueries() {
+        User creator = new User();
+        creator.setId(1L);
+
+        List<MealSchedule> schedules = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            MealSchedule schedule = new MealSchedule();
+            schedule.setId(id);
+            schedule.setMealDate(LocalDate.now());
+            schedule.setCreatedBy(creator);
+            schedules.add(schedule);
+        }
+
+        when(scheduleRepository.findAll()).thenReturn(schedules);
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(rosterUser(1L), rosterUser(2L)));
+        when(participantRepository.countCheckedByScheduleIds(anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{3L, 2L}));
+
+        List<MealScheduleDTO> result = mealScheduleService.getAllSchedules();
+
+        assertEquals(50, result.size());
+        assertEquals(2L, result.get(2).getCheckedCount());
+        assertEquals(0L, result.get(0).getCheckedCount());
+        assertNull(result.get(0).getCurrentUserChecked());
+        assertEquals(2L, result.get(0).getTotalParticipants());
+        verify(userRosterCache, times(1)).getActiveUsers();
+        verifyNoInteractions(userRepository);
+        verify(participantRepository, times(1)).countCheckedByScheduleIds(anyCollection());
+        verify(participantRepository, never()).countByScheduleIdAndCheckedTrue(anyLong());
+        verify(participantRepository, never()).findCheckedScheduleIdsByUserId(anyLong(), anyCollection());
+    }
+
+    @Test
+    void getUserMealHistory_withRange_shouldFilterInDatabase() {
+        User user = new User();
+        user.setId(1L);
+
+        MealSchedule schedule = new MealSchedule();
+        schedule.setId(10L);
+        schedule.setMealDate(LocalDate.of(2024, 3, 4));
 
         MealScheduleParticipant participant = new MealScheduleParticipant();
         participant.setId(100L);
         participant.setUser(user);
         participant.setSchedule(schedule);
         participant.setChecked(true);
-        when(participantRepository.findByScheduleIdAndUserId(10L, 1L)).thenReturn(Optional.of(participant));
 
-        var result = mealScheduleService.getSchedulesByDate(LocalDate.now(), 1L);
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(participantRepository.findHistoryByUserIdAndMealDateBetween(1L, start, end))
+                .thenReturn(List.of(participant));
+
+        List<MealHistoryDTO> result = mealScheduleService.getUserMealHistory(1L, start, end);
 
         assertEquals(1, result.size());
-        MealScheduleDTO dto = result.get(0);
-        assertTrue(dto.getCurrentUserChecked());
-        assertEquals(1L, dto.getCheckedCount());
-        assertEquals(1L, dto.getTotalParticipants());
+        assertEquals(LocalDate.of(2024, 3, 5), result.get(0).getMealDate());
+        verify(participantRepository, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    void getAllMealHistoryPage_shouldWalkSchedulesTimesUsersWithCursor() {
+        MealSchedule first = schedule(10L, LocalDate.of(2024, 3, 4));
+        MealSchedule second = schedule(11L, LocalDate.of(2024, 3, 5));
+
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(rosterUser(2L), rosterUser(1L)));
+        when(scheduleRepository.findPageFrom(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(first, second));
+        when(participantRepository.findHistoryByScheduleIdIn(List.of(10L, 11L))).thenReturn(List.of());
+
+        MealHistoryPageDTO page = mealScheduleService.getAllMealHistoryPage(null, null, null, 3);
+
+        assertEquals(3, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals("2024-03-05,11,1", page.getNextCursor());
+        assertEquals(10L, page.getContent().get(0).getScheduleId());
+        assertEquals(1L, page.getContent().get(0).getUserId());
+
+        when(scheduleRepository.findPageFrom(any(), any(), eq(LocalDate.of(2024, 3, 5)), eq(11L), any()))
+                .thenReturn(List.of(second));
+        when(participantRepository.findHistoryByScheduleIdIn(List.of(11L))).thenReturn(List.of());
+
+        MealHistoryPageDTO next = mealScheduleService.getAllMealHistoryPage(null, null, page.getNextCursor(), 3);
+
+        assertEquals(1, next.getContent().size());
+        assertEquals(2L, next.getContent().get(0).getUserId());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void streamAllMealHistory_shouldMergeRecordedRowsWithSynthesizedRows() {
+        MealSchedule schedule = schedule(10L, LocalDate.of(2024, 3, 4));
+
+        MealHistoryDTO recorded = new MealHistoryDTO(100L, 10L, LocalDate.of(2024, 3, 4), null, null,
+                2L, "user2", "Dev", true, null, null);
+        MealHistoryDTO inactiveUserRow = new MealHistoryDTO(101L, 10L, LocalDate.of(2024, 3, 4), null, null,
+                3L, "user3", "Dev", true, null, null);
+
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(rosterUser(1L), rosterUser(2L)));
+        when(scheduleRepository.findByMealDateBetweenOrderByMealDateAscIdAsc(any(), any()))
+                .thenReturn(List.of(schedule));
+        when(participantRepository.streamHistoryByMealDateBetween(any(), any()))
+                .thenReturn(Stream.of(recorded, inactiveUserRow));
+
+        List<MealHistoryDTO> rows = new ArrayList<>();
+        mealScheduleService.streamAllMealHistory(null, null, rows::add);
+
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).getUserId());
+        assertFalse(rows.get(0).getChecked());
+        assertEquals(100L, rows.get(1).getId());
+        assertEquals(LocalDate.of(2024, 3, 5), rows.get(1).getMealDate());
     }
 
     @Test
@@ -89,6 +298,160 @@ class MealScheduleServiceTest {
 
         assertTrue(ex.getMessage().contains("비활성 사용자"));
     }
-}
 
+    @Test
+    void checkParticipant_shouldUpdateRollupOnlyWhenCheckedStateChanges() {
+        MealSchedule schedule = schedule(10L, LocalDate.of(2024, 3, 1));
+        schedule.setMealType(MealType.LUNCH);
+        MealScheduleParticipant participant = new MealScheduleParticipant();
+        participant.setId(100L);
+        participant.setChecked(true);
+
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(userRosterCache.findApprovedUser(1L)).thenReturn(Optional.of(rosterUser(1L)));
+        // 첫 요청은 새 행 생성, 두 번째 요청은 이미 수령 상태
+        when(participantRepository.insertCheckedIfAbsent(eq(10L), eq(1L), eq("Dev"), any(), any())).thenReturn(1, 0);
+        when(participantRepository.markChecked(eq(10L), eq(1L), eq("Dev"), any(), any())).thenReturn(0);
+        when(participantRepository.findByScheduleIdAndUserId(10L, 1L)).thenReturn(Optional.of(participant));
+        // 첫 해제만 실제 전환
+        when(participantRepository.markUnchecked(eq(10L), eq(1L), any())).thenReturn(1, 0);
+        when(participantRepository.existsByScheduleIdAndUserId(10L, 1L)).thenReturn(true);
+        // 수령 후 부서를 옮겼어도 수령 때 기록한 부서로 해제
+        when(participantRepository.findDepartmentByScheduleIdAndUserId(10L, 1L)).thenReturn(Optional.of("Sales"));
+
+        MealScheduleParticipantDTO first = mealScheduleService.checkParticipant(10L, 1L, null);
+        mealScheduleService.checkParticipant(10L, 1L, "memo");
+        mealScheduleService.uncheckParticipant(10L, 1L);
+        mealScheduleService.uncheckParticipant(10L, 1L);
 
+        assertEquals(100L, first.getId());
+        assertEquals("user1", first.getUserName());
+        assertTrue(first.getChecked());
+        verify(participantRepository).updateNote(10L, 1L, "memo");
+        verify(participantRepository, never()).save(any());
+        verify(mealRollupService, times(1)).increment(schedule, "Dev");
+        verify(mealRollupService, times(1)).decrement(schedule, "Sales");
+        // 업무 지표도 실제 전환만 집계
+        verify(metrics, times(1)).checkedIn(MealType.LUNCH, 1);
+        verify(metrics, times(1)).checkInCancelled(MealType.LUNCH, 1);
+    }
+
+    @Test
+    void checkParticipant_writeBehind_shouldPublishOnlyWhenStateChanges() {
+        MealSchedule schedule = schedule(10L, LocalDate.of(2024, 3, 1));
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(userRosterCache.findApprovedUser(1L)).thenReturn(Optional.of(rosterUser(1L)));
+        when(checkInBuffer.isEnabled()).thenReturn(true);
+        when(checkInBuffer.pending(10L)).thenReturn(Map.of(1L, new PendingCheck(true, null, at)));
+        // 체크 -> 반복 체크 -> 해제 -> 반복 해제
+        when(checkInBuffer.record(eq(10L), eq(1L), anyBoolean(), any())).thenReturn(
+            new Recorded(new PendingCheck(true, null, at), true),
+            new Recorded(new PendingCheck(true, "memo", at), false),
+            new Recorded(new PendingCheck(false, null, at), true),
+            new Recorded(new PendingCheck(false, null, at), false));
+
+        mealScheduleService.checkParticipant(10L, 1L, null);
+        MealScheduleParticipantDTO repeated = mealScheduleService.checkParticipant(10L, 1L, "memo");
+        mealScheduleService.uncheckParticipant(10L, 1L);
+        mealScheduleService.uncheckParticipant(10L, 1L);
+
+        assertTrue(repeated.getChecked());
+        verify(checkInEventHub, times(1)).publish(10L, List.of(1L), List.of());
+        verify(checkInEventHub, times(1)).publish(10L, List.of(), List.of(1L));
+        verifyNoInteractions(participantBatchRepository, mealRollupService);
+    }
+
+    @Test
+    void getParticipantsBySchedule_shouldOverlayPendingChecksOnProjection() {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 12, 0);
+        when(participantRepository.findParticipantDTOsByScheduleId(10L)).thenReturn(List.of(
+            new MealScheduleParticipantDTO(100L, 10L, 1L, "user1", "Dev", false, null, at.minusHours(1), at.minusHours(1))));
+        // user1: DB 에는 미수령, 버퍼에 체크 대기 / user2: 아직 행이 없는 체크 대기
+        when(checkInBuffer.pending(10L)).thenReturn(Map.of(
+            1L, new PendingCheck(true, "memo", at),
+            2L, new PendingCheck(true, null, at)));
+        when(userRosterCache.findApprovedUser(2L)).thenReturn(Optional.of(rosterUser(2L)));
+
+        List<MealScheduleParticipantDTO> participants = mealScheduleService.getParticipantsBySchedule(10L);
+
+        assertEquals(2, participants.size());
+        assertEquals(100L, participants.get(0).getId());
+        assertTrue(participants.get(0).getChecked());
+        assertEquals("memo", participants.get(0).getNote());
+        assertEquals(at, participants.get(0).getUpdatedAt());
+        assertEquals("user2", participants.get(1).getUserName());
+        assertTrue(participants.get(1).getChecked());
+        // 엔티티 조회(사용자 지연 로딩) 없이 프로젝션만 사용
+        verify(participantRepository, never()).findByScheduleId(anyLong());
+    }
+
+    @Test
+    void uncheckParticipant_shouldThrowWhenParticipantMissing() {
+        when(participantRepository.markUnchecked(eq(10L), eq(1L), any())).thenReturn(0);
+        when(participantRepository.existsByScheduleIdAndUserId(10L, 1L)).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () -> mealScheduleService.uncheckParticipant(10L, 1L));
+        verifyNoInteractions(mealRollupService);
+    }
+
+    @Test
+    void checkParticipants_shouldReportPerUserResultsAndBatchWrites() {
+        MealSchedule schedule = schedule(10L, LocalDate.of(2024, 3, 1));
+        schedule.setMealType(MealType.LUNCH);
+        User inactive = new User();
+        inactive.setId(4L);
+        inactive.setName("user4");
+        inactive.setActive(false);
+
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(userRosterCache.findApprovedUser(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return id <= 3 ? Optional.of(rosterUser(id)) : Optional.empty();
+        });
+        when(userRepository.findAllById(List.of(4L, 5L))).thenReturn(List.of(inactive));
+        // user1, user2: 새로 수령 처리됨, user3: 이미 수령
+        when(participantBatchRepository.upsertChecked(eq(10L), anyList())).thenReturn(Set.of(1L, 2L));
+
+        List<MealScheduleBatchCheckResultDTO> results = mealScheduleService.checkParticipants(10L, List.of(
+            new MealScheduleBatchCheckRequest.Entry(1L, null),
+            new MealScheduleBatchCheckRequest.Entry(2L, "memo"),
+            new MealScheduleBatchCheckRequest.Entry(3L, null),
+            new MealScheduleBatchCheckRequest.Entry(4L, null),
+            new MealScheduleBatchCheckRequest.Entry(5L, null),
+            new MealScheduleBatchCheckRequest.Entry(1L, null)
+        ));
+
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).getSuccess());
+        assertFalse(results.get(0).getAlreadyChecked());
+        assertTrue(results.get(1).getSuccess());
+        assertTrue(results.get(2).getSuccess());
+        assertTrue(results.get(2).getAlreadyChecked());
+        assertFalse(results.get(3).getSuccess());
+        assertTrue(results.get(3).getMessage().contains("비활성 사용자"));
+        assertFalse(results.get(4).getSuccess());
+        assertFalse(results.get(5).getSuccess());
+
+        verify(participantBatchRepository).upsertChecked(eq(10L), checkEntries.capture());
+        assertEquals(List.of(1L, 2L, 3L), checkEntries.getValue().stream().map(CheckEntry::getUserId).toList());
+        assertEquals("memo", checkEntries.getValue().get(1).getNote());
+        assertEquals("Dev", checkEntries.getValue().get(1).getDepartment());
+        // 새로 수령한 사용자만 집계에 반영
+        verify(mealRollupService).applyChanges(schedule, List.of("Dev", "Dev"), List.of());
+        verify(metrics).checkedIn(MealType.LUNCH, 2);
+        verify(participantRepository, never()).save(any());
+    }
+
+    private static MealSchedule schedule(Long id, LocalDate mealDate) {
+        MealSchedule schedule = new MealSchedule();
+        schedule.setId(id);
+        schedule.setMealDate(mealDate);
+        return schedule;
+    }
+
+    private static RosterUser rosterUser(Long id) {
+        return new RosterUser(id, "user" + id, "Dev", "USER", true, null, null);
+    }
+}
@@ -0,0 +1,238 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.dto.UserImportResultDTO;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private DemoAccountGuard demoAccountGuard;
+
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<Collection<String>> usernames;
+
+    @Captor
+    private ArgumentCaptor<List<User>> saved;
+
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new UserImportService(userRepository, passwordEncoder, demoAccountGuard, userRosterCache, transactionManager);
+        ReflectionTestUtils.setField(importService, "hashThreads", 2);
+        importService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void importCsv_shouldReportInvalidRowsAndSaveOthersInOneBatch() throws Exception {
+        String csv = "\uFEFFusername,name,password,department,active\r\n"
+            + "kim,김철수,secret1,개발팀,\r\n"
+            + "lee,\"이영희, 주임\",secret2,,false\r\n"
+            + "\r\n"
+            + "park,박민수,123,인사팀,\r\n"
+            + "kim,김철수2,secret3,,\r\n"
+            + "taken,홍길동,secret4,,\r\n"
+            + "choi,최지우,secret5,,maybe\r\n";
+
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of("taken"));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            long id = 100;
+            for (User user : users) {
+                user.setId(id++);
+            }
+            return users;
+        });
+
+        UserImportResultDTO result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(2, result.getCreated());
+        assertEquals(4, result.getFailed());
+        List<UserImportResultDTO.Row> rows = result.getRows();
+        assertEquals(new UserImportResultDTO.Row(2, "kim", true, 100L, null), rows.get(0));
+        assertEquals(new UserImportResultDTO.Row(3, "lee", true, 101L, null), rows.get(1));
+        assertEquals(5, rows.get(2).getLine());
+        assertEquals("비밀번호는 최소 6자 이상이어야 합니다", rows.get(2).getMessage());
+        assertEquals("파일에 중복된 아이디입니다", rows.get(3).getMessage());
+        assertEquals("이미 사용 중인 아이디입니다", rows.get(4).getMessage());
+        assertEquals("active 값은 true 또는 false 여야 합니다", rows.get(5).getMessage());
+
+        // 중복 확인은 한 번의 IN 조회, 저장은 (묶음 하나이므로) 한 번의 saveAll
+        verify(userRepository, times(1)).findExistingUsernames(usernames.capture());
+        assertEquals(List.of("kim", "lee", "taken"), new ArrayList<>(usernames.getValue()));
+        verify(userRepository, times(1)).saveAll(saved.capture());
+        User lee = saved.getValue().get(1);
+        assertEquals("이영희, 주임", lee.getName());
+        assertEquals("encoded-secret2", lee.getPassword());
+        assertNull(lee.getDepartment());
+        assertFalse(lee.getActive());
+        assertTrue(lee.getApproved());
+        assertEquals("USER", lee.getRole());
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRosterCache).invalidate();
+    }
+
+    @Test
+    void importCsv_shouldCompareUsernamesIgnoringCase() throws Exception {
+        String csv = "username,name,password\r\n"
+            + "Kim,김철수,secret1\r\n"
+            + "kim,김철수2,secret2\r\n"
+            + "TAKEN,홍길동,secret3\r\n";
+
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of("taken"));
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserImportResultDTO result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, result.getCreated());
+        assertTrue(result.getRows().get(0).getSuccess());
+        assertEquals("파일에 중복된 아이디입니다", result.getRows().get(1).getMessage());
+        assertEquals("이미 사용 중인 아이디입니다", result.getRows().get(2).getMessage());
+    }
+
+    @Test
+    void importCsv_shouldFailOnlyChunkWithConflict() throws Exception {
+        StringBuilder csv = new StringBuilder("username,name,password\r\n");
+        for (int i = 0; i <= UserImportService.SAVE_CHUNK_SIZE; i++) {
+            csv.append("user").append(i).append(",사용자").append(i).append(",secret").append(i).append("\r\n");
+        }
+
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        // 첫 묶음 저장 중 다른 요청이 같은 아이디를 먼저 등록
+        when(userRepository.saveAll(anyList()))
+            .thenThrow(new DataIntegrityViolationException("duplicate"))
+            .thenAnswer(invocation -> {
+                List<User> users = invocation.getArgument(0);
+                users.forEach(user -> user.setId(1000L));
+                return users;
+            });
+
+        UserImportResultDTO result = importService.importCsv(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(UserImportService.SAVE_CHUNK_SIZE + 1, result.getTotalRows());
+        assertEquals(1, result.getCreated());
+        assertEquals(UserImportService.SAVE_CHUNK_SIZE, result.getFailed());
+        assertFalse(result.getRows().get(0).getSuccess());
+        assertNotNull(result.getRows().get(0).getMessage());
+        UserImportResultDTO.Row last = result.getRows().get(UserImportService.SAVE_CHUNK_SIZE);
+        assertTrue(last.getSuccess());
+        assertEquals(1000L, last.getUserId());
+        verify(userRepository, times(2)).saveAll(anyList());
+        verify(userRosterCache).invalidate();
+    }
+
+    @Test
+    void importCsv_shouldReportEncodingFailureAsRowError() throws Exception {
+        String csv = "username,name,password\r\n"
+            + "kim,김철수,secret1\r\n"
+            + "lee,이영희,broken\r\n";
+
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            if ("broken".equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("hash failed");
+            }
+            return "encoded";
+        });
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserImportResultDTO result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // 인코딩에 실패한 행만 실패로 보고하고 나머지는 저장
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getRows().get(0).getSuccess());
+        assertFalse(result.getRows().get(1).getSuccess());
+        assertEquals("비밀번호를 처리하지 못했습니다. 다시 시도해 주세요", result.getRows().get(1).getMessage());
+        verify(userRepository).saveAll(saved.capture());
+        assertEquals(List.of("kim"), saved.getValue().stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    void importCsv_shouldReportRejectedEncodingTaskAsRowError() throws Exception {
+        String csv = "username,name,password\r\n"
+            + "kim,김철수,secret1\r\n";
+
+        when(userRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        // 종료된 풀은 작업을 거부
+        importService.shutdown();
+
+        UserImportResultDTO result = importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, result.getCreated());
+        assertEquals("비밀번호를 처리하지 못했습니다. 다시 시도해 주세요", result.getRows().get(0).getMessage());
+        verify(userRepository, never()).saveAll(anyList());
+        verify(userRosterCache, never()).invalidate();
+    }
+
+    @Test
+    void importCsv_shouldRejectMissingRequiredColumns() {
+        String csv = "username,name\r\nkim,김철수\r\n";
+
+        assertThrows(RuntimeException.class,
+            () -> importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void importCsv_shouldBeBlockedForDemoAccount() {
+        doThrow(new RuntimeException("데모 계정")).when(demoAccountGuard).checkNotDemoUser();
+
+        assertThrows(RuntimeException.class,
+            () -> importService.importCsv(new ByteArrayInputStream("username,name,password\r\n".getBytes(StandardCharsets.UTF_8))));
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    @Test
+    void parseLine_shouldHandleQuotedFieldsAndEscapedQuotes() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), UserImportService.parseLine("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+}
@@ -0,0 +1,95 @@
+package com.mealcheck.service;
+
+import com.mealcheck.config.DemoAccountGuard;
+import com.mealcheck.entity.User;
+import com.mealcheck.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRosterCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private UserRosterCache userRosterCache;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void getActiveUsers_shouldExcludeInactiveAndDemoUsers() {
+        when(userRepository.findByApprovedTrue()).thenReturn(Arrays.asList(
+                user(1L, "user1", true),
+                user(2L, "user2", false),
+                user(3L, DemoAccountGuard.DEMO_USERNAME, true)));
+
+        List<UserRosterCache.RosterUser> active = userRosterCache.getActiveUsers();
+
+        assertEquals(1, active.size());
+        assertEquals(1L, active.get(0).getId());
+        assertEquals(2, userRosterCache.getApprovedUsers().size());
+    }
+
+    @Test
+    void getActiveUsers_shouldServeFromMemoryUntilInvalidated() {
+        when(userRepository.findByApprovedTrue())
+                .thenReturn(List.of(user(1L, "user1", true)))
+                .thenReturn(List.of(user(1L, "user1", true), user(2L, "user2", true)));
+
+        assertEquals(1, userRosterCache.getActiveUsers().size());
+        assertEquals(1, userRosterCache.getActiveUsers().size());
+        verify(userRepository, times(1)).findByApprovedTrue();
+
+        userRosterCache.invalidate();
+
+        assertEquals(2, userRosterCache.getActiveUsers().size());
+        verify(userRepository, times(2)).findByApprovedTrue();
+    }
+
+    @Test
+    void getActiveUsers_shouldLoadInSeparateReadCommittedTransaction() {
+        when(userRepository.findByApprovedTrue()).thenReturn(List.of(user(1L, "user1", true)));
+
+        userRosterCache.getActiveUsers();
+
+        // 무효화 전에 시작된 호출자 트랜잭션의 스냅샷으로 새 버전을 캐시하지 않도록 별도 트랜잭션에서 조회
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertEquals(TransactionDefinition.ISOLATION_READ_COMMITTED, definition.getValue().getIsolationLevel());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    private static User user(Long id, String username, boolean active) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setName(username);
+        user.setApproved(true);
+        user.setActive(active);
+        return user;
+    }
+}
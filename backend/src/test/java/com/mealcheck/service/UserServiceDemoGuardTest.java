@@ -25,6 +25,12 @@ class UserServiceDemoGuardTest {
     @Mock
     private DemoAccountGuard demoAccountGuard;
 
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
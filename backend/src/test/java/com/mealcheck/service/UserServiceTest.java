@@ -4,21 +4,25 @@ import com.mealcheck.config.DemoAccountGuard;
 import com.mealcheck.dto.ChangePasswordRequest;
 import com.mealcheck.dto.CreateUserRequest;
 import com.mealcheck.dto.UserDTO;
+import com.mealcheck.dto.UserDirectoryEntryDTO;
+import com.mealcheck.dto.UserDirectoryPageDTO;
 import com.mealcheck.entity.User;
 import com.mealcheck.repository.UserRepository;
+import com.mealcheck.service.UserRosterCache.RosterUser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,25 +37,47 @@ class UserServiceTest {
     @Mock
     private DemoAccountGuard demoAccountGuard;
 
+    @Mock
+    private UserRosterCache userRosterCache;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
     @Test
-    void getActiveUsers_shouldReturnOnlyActiveApprovedUsers() {
-        User active = new User();
-        active.setActive(true);
-        active.setApproved(true);
+    void getActiveUsers_shouldReturnRosterActiveUsers() {
+        RosterUser active = new RosterUser(1L, "User 1", "Dev", "USER", true, null, null);
 
-        User inactive = new User();
-        inactive.setActive(false);
-        inactive.setApproved(true);
-
-        when(userRepository.findByApprovedTrue()).thenReturn(Arrays.asList(active, inactive));
+        when(userRosterCache.getActiveUsers()).thenReturn(List.of(active));
 
         List<UserDTO> result = userService.getActiveUsers();
 
         assertEquals(1, result.size());
         assertTrue(result.get(0).getActive());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void updateUser_shouldInvalidateRoster() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setActive(true);
+
+        UserDTO dto = new UserDTO();
+        dto.setName("User 1");
+        dto.setActive(false);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.updateUser(1L, dto);
+
+        assertFalse(user.getActive());
+        verify(userRosterCache).invalidate();
+        verify(userDetailsService).evictUser(user.getUsername());
     }
 
     @Test
@@ -77,6 +103,7 @@ class UserServiceTest {
     void changePassword_shouldUpdatePasswordWhenCurrentMatches() {
         User user = new User();
         user.setId(1L);
+        user.setUsername("user1");
         user.setPassword("encoded_old");
 
         ChangePasswordRequest request = new ChangePasswordRequest();
@@ -91,7 +118,43 @@ class UserServiceTest {
 
         assertEquals("encoded_new", user.getPassword());
         verify(userRepository).save(user);
+        verify(userDetailsService).evictUser(user.getUsername());
     }
-}
 
+    @Test
+    void getUserDirectoryPage_shouldFetchOneExtraRowAndReturnNextCursor() {
+        List<UserDirectoryEntryDTO> rows = List.of(
+            new UserDirectoryEntryDTO(7L, "kim1", "김, 철수", "Dev", "USER", true),
+            new UserDirectoryEntryDTO(3L, "kim2", "김영희", "Dev", "USER", true),
+            new UserDirectoryEntryDTO(9L, "kim3", "김하나", "Dev", "USER", true));
+        when(userRepository.findDirectoryPage("demo_admin", "Dev", true, "USER", "김!%!_%", "", 0L, PageRequest.of(0, 3)))
+            .thenReturn(rows);
+
+        UserDirectoryPageDTO page = userService.getUserDirectoryPage(" Dev ", true, "user", "김%_", null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals("3,김영희", page.getNextCursor());
+        verifyNoInteractions(userRosterCache);
+    }
+
+    @Test
+    void getUserDirectoryPage_shouldContinueFromCursorWithCommaInName() {
+        when(userRepository.findDirectoryPage(eq("demo_admin"), eq(null), eq(null), eq(null), eq("%"),
+                eq("김, 철수"), eq(7L), any()))
+            .thenReturn(List.of(new UserDirectoryEntryDTO(3L, "kim2", "김영희", "Dev", "USER", true)));
 
+        UserDirectoryPageDTO page = userService.getUserDirectoryPage(null, null, null, "", "7,김, 철수", 50);
+
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getUserDirectoryPage_shouldRejectMalformedCursor() {
+        assertThrows(RuntimeException.class,
+            () -> userService.getUserDirectoryPage(null, null, null, null, "not-a-cursor", 50));
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -4,10 +4,15 @@ import { useAuth } from '../contexts/AuthContext';
 import { maskNameForDemo, maskDepartmentForDemo } from '../utils/masking';
 import './UserList.css';
 
+const PAGE_SIZE = 50;
+
 function UserList() {
   const { isDemo, user: currentUser } = useAuth();
   const [users, setUsers] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [filters, setFilters] = useState({ name: '', department: '', active: '' });
   const [showModal, setShowModal] = useState(false);
   const [editingUser, setEditingUser] = useState(null);
   const [formData, setFormData] = useState({
@@ -23,11 +28,13 @@ function UserList() {
     fetchUsers();
   }, []);
 
+  // 필터는 서버에서 처리하고 PAGE_SIZE 명씩 받아 옴
   const fetchUsers = async () => {
     try {
       setLoading(true);
-      const response = await userAPI.getAll();
-      setUsers(response.data);
+      const response = await userAPI.getDirectory({ ...filters, size: PAGE_SIZE });
+      setUsers(response.data.content);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       console.error('사용자 목록 로드 실패:', error);
       setError('사용자 목록을 불러오는데 실패했습니다.');
@@ -36,6 +43,30 @@ function UserList() {
     }
   };
 
+  const handleLoadMore = async () => {
+    try {
+      setLoadingMore(true);
+      const response = await userAPI.getDirectory({ ...filters, cursor: nextCursor, size: PAGE_SIZE });
+      setUsers((prev) => [...prev, ...response.data.content]);
+      setNextCursor(response.data.nextCursor);
+    } catch (error) {
+      console.error('사용자 목록 로드 실패:', error);
+      alert('사용자 목록을 더 불러오는데 실패했습니다.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  const handleFilterChange = (e) => {
+    const { name, value } = e.target;
+    setFilters({ ...filters, [name]: value });
+  };
+
+  const handleSearch = (e) => {
+    e.preventDefault();
+    fetchUsers();
+  };
+
   const handleOpenModal = (user = null) => {
     if (user) {
       setEditingUser(user);
@@ -117,6 +148,31 @@ function UserList() {
         )}
       </div>
 
+      <form className="card user-filters" onSubmit={handleSearch}>
+        <input
+          type="text"
+          name="name"
+          className="form-control"
+          placeholder="이름 (앞글자)"
+          value={filters.name}
+          onChange={handleFilterChange}
+        />
+        <input
+          type="text"
+          name="department"
+          className="form-control"
+          placeholder="부서"
+          value={filters.department}
+          onChange={handleFilterChange}
+        />
+        <select name="active" className="form-control" value={filters.active} onChange={handleFilterChange}>
+          <option value="">전체 상태</option>
+          <option value="true">활성</option>
+          <option value="false">비활성</option>
+        </select>
+        <button type="submit" className="btn btn-primary">조회</button>
+      </form>
+
       <div className="card">
         <table className="table">
           <thead>
@@ -165,6 +221,13 @@ function UserList() {
             )})}
           </tbody>
         </table>
+        {nextCursor && (
+          <div className="load-more">
+            <button className="btn btn-outline" onClick={handleLoadMore} disabled={loadingMore}>
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          </div>
+        )}
       </div>
 
       {showModal && !isDemo && (
@@ -56,6 +56,18 @@ export const authAPI = {
 export const userAPI = {
   getAll: () => api.get('/users'),
   getActive: () => api.get('/users/active'),
+  // 관리자 사용자 목록: 필터 + 키셋 페이지 (cursor 는 이전 응답의 nextCursor)
+  getDirectory: ({ name, department, active, role, cursor, size } = {}) => {
+    let url = '/users/directory';
+    const params = new URLSearchParams();
+    if (name) params.append('name', name);
+    if (department) params.append('department', department);
+    if (active !== undefined && active !== '') params.append('active', active);
+    if (role) params.append('role', role);
+    if (cursor) params.append('cursor', cursor);
+    if (size) params.append('size', size);
+    return api.get(url + (params.toString() ? '?' + params.toString() : ''));
+  },
   getById: (id) => api.get(`/users/${id}`),
   create: (data) => api.post('/users', data),
   update: (id, data) => api.put(`/users/${id}`, data),
@@ -0,0 +1,122 @@
+#!/bin/bash
+
+# 가상 스레드 실행 모드 비교 벤치마크
+# 같은 JAR 을 기본(플랫폼 스레드 풀) 모드와 virtual-threads 프로파일로 차례로 띄우고,
+# 동시 접속 클라이언트 CONCURRENCY 개로 식사 체크 화면 API 를 호출해 처리량을 비교합니다.
+#
+# 사용법: ./scripts/bench-virtual-threads.sh
+# 필요: JDK 21, Maven, hey (https://github.com/rakyll/hey), curl
+#
+# 환경 변수
+#   CONCURRENCY   동시 클라이언트 수 (기본 2000)
+#   DURATION      모드별 측정 시간 (기본 30s)
+#   PORT          서버 포트 (기본 18080)
+#   ADMIN_PASSWORD  로컬 admin 비밀번호 (기본 DataInitializer 기본값)
+
+set -e
+
+CONCURRENCY="${CONCURRENCY:-2000}"
+DURATION="${DURATION:-30s}"
+PORT="${PORT:-18080}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-change_me_admin_password}"
+BASE_URL="http://localhost:${PORT}"
+TODAY=$(date +%F)
+
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m'
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+BACKEND_DIR="${SCRIPT_DIR}/../backend"
+RESULT_DIR="${BACKEND_DIR}/target/bench-virtual-threads"
+
+for cmd in java mvn hey curl; do
+    if ! command -v "$cmd" > /dev/null; then
+        echo -e "${RED}${cmd} 명령을 찾을 수 없습니다${NC}"
+        exit 1
+    fi
+done
+
+JAVA_MAJOR=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${JAVA_MAJOR%%.*}" -lt 21 ]; then
+    echo -e "${RED}JDK 21 이상이 필요합니다 (현재: ${JAVA_MAJOR})${NC}"
+    exit 1
+fi
+
+echo -e "${GREEN}가상 스레드 비교 벤치마크${NC}"
+echo "========================================"
+echo "동시 클라이언트: ${CONCURRENCY}"
+echo "측정 시간: ${DURATION}"
+echo "========================================"
+
+echo -e "${YELLOW}JAR 빌드 중 (-Pjava21)...${NC}"
+(cd "${BACKEND_DIR}" && mvn -B -q -Pjava21 -DskipTests package)
+JAR=$(ls "${BACKEND_DIR}"/target/*.jar | grep -v original | head -1)
+mkdir -p "${RESULT_DIR}"
+
+SERVER_PID=""
+stop_server() {
+    if [ -n "${SERVER_PID}" ]; then
+        kill "${SERVER_PID}" 2>/dev/null || true
+        wait "${SERVER_PID}" 2>/dev/null || true
+        SERVER_PID=""
+    fi
+}
+trap stop_server EXIT
+
+run_mode() {
+    local mode="$1"
+    local profiles="$2"
+
+    echo -e "${YELLOW}[${mode}] 서버 기동 (profiles=${profiles})...${NC}"
+    java -jar "${JAR}" \
+        --spring.profiles.active="${profiles}" \
+        --server.port="${PORT}" \
+        --spring.jpa.show-sql=false \
+        --logging.level.root=WARN \
+        --logging.level.com.mealcheck=WARN \
+        --logging.level.org.hibernate.SQL=WARN \
+        --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+        > "${RESULT_DIR}/${mode}-server.log" 2>&1 &
+    SERVER_PID=$!
+
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+            break
+        fi
+        sleep 1
+    done
+
+    local token
+    token=$(curl -sf -X POST "${BASE_URL}/api/auth/login" \
+        -H 'Content-Type: application/json' \
+        -d "{\"username\":\"admin\",\"password\":\"${ADMIN_PASSWORD}\"}" \
+        | sed -E 's/.*"token":"([^"]+)".*/\1/')
+    if [ -z "${token}" ]; then
+        echo -e "${RED}[${mode}] 로그인 실패 (로그: ${RESULT_DIR}/${mode}-server.log)${NC}"
+        exit 1
+    fi
+
+    # 예열 후 측정
+    hey -z 5s -c 50 -H "Authorization: Bearer ${token}" "${BASE_URL}/api/meal-schedules/date/${TODAY}" > /dev/null
+    hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Authorization: Bearer ${token}" \
+        "${BASE_URL}/api/meal-schedules/date/${TODAY}" > "${RESULT_DIR}/${mode}.txt"
+
+    stop_server
+}
+
+run_mode platform local
+run_mode virtual local,virtual-threads
+
+echo "========================================"
+printf "%-10s %12s %12s %12s\n" "mode" "req/sec" "p95(s)" "p99(s)"
+for mode in platform virtual; do
+    file="${RESULT_DIR}/${mode}.txt"
+    rps=$(awk '/Requests\/sec/ {print $2}' "${file}")
+    p95=$(awk '/95% in/ {print $3}' "${file}")
+    p99=$(awk '/99% in/ {print $3}' "${file}")
+    printf "%-10s %12s %12s %12s\n" "${mode}" "${rps}" "${p95}" "${p99}"
+done
+echo "========================================"
+echo -e "${GREEN}상세 결과: ${RESULT_DIR}${NC}"
@@ -7,5 +7,5 @@ USE mealcheck;
 -- 샘플 데이터 삽입 (선택사항)
 -- 실제 운영 환경에서는 이 부분을 제거하거나 주석 처리하세요
 
--- Users 테이블은 JPA가 자동으로 생성하므로, 앱 실행 후 샘플 데이터를 삽입할 수 있습니다
+-- 테이블은 앱 시작 시 Flyway 마이그레이션(backend/src/main/resources/db/migration)으로 생성되므로, 앱 실행 후 샘플 데이터를 삽입할 수 있습니다
 